@@ -1,7 +1,10 @@
 package org.carlspring.strongbox.aql;
 
 import org.carlspring.strongbox.aql.grammar.AqlQueryParser;
+import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
 import org.carlspring.strongbox.data.criteria.OQueryTemplate;
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.Paginator.Order;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.data.criteria.QueryParserException;
 import org.carlspring.strongbox.data.criteria.Selector;
@@ -12,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 
 import com.google.common.collect.ImmutableMap;
+import com.orientechnologies.orient.core.id.ORecordId;
 import org.javatuples.Pair;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -127,6 +131,56 @@ public class AqlParserTest
                      parameterMap);
     }
 
+    @Test
+    public void testKeysetPagination()
+    {
+        Selector<ArtifactEntry> selector = new Selector<>(ArtifactEntry.class);
+        selector.where(ExpOperator.EQ.of("storageId", "storage0"));
+
+        Paginator paginator = new Paginator();
+        paginator.setSkip(50);
+        paginator.setLimit(25);
+        paginator.setAfter("#12:34");
+        selector.with(paginator);
+
+        OQueryTemplate<Object, ArtifactEntry> queryTemplate = new OQueryTemplate<>(null);
+
+        // The keyset replaces the offset, and the objectId of the last entry is converted into its record ID.
+        assertEquals("SELECT * " +
+                     "FROM " +
+                     "ArtifactEntry " +
+                     "WHERE " +
+                     "(storageId = :storageId_0) " +
+                     "AND @rid > :after " +
+                     "ORDER BY @rid ASC " +
+                     "LIMIT 25",
+                     queryTemplate.calculateQueryString(selector));
+        assertEquals(ImmutableMap.of("storageId_0",
+                                     "storage0",
+                                     "after",
+                                     new ORecordId(12, 34)),
+                     queryTemplate.exposeParameterMap(selector));
+
+        paginator.setProperty("uuid");
+        paginator.setOrder(Order.DESC);
+        paginator.setAfter("org/carlspring/keyset/1.0/keyset-1.0.jar");
+
+        assertEquals("SELECT * " +
+                     "FROM " +
+                     "ArtifactEntry " +
+                     "WHERE " +
+                     "(storageId = :storageId_0) " +
+                     "AND uuid < :after " +
+                     "ORDER BY uuid DESC " +
+                     "LIMIT 25",
+                     queryTemplate.calculateQueryString(selector));
+        assertEquals(ImmutableMap.of("storageId_0",
+                                     "storage0",
+                                     "after",
+                                     "org/carlspring/keyset/1.0/keyset-1.0.jar"),
+                     queryTemplate.exposeParameterMap(selector));
+    }
+
     @Test
     public void testInvalidQuery()
     {
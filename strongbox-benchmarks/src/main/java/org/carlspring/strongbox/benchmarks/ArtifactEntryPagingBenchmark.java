@@ -0,0 +1,109 @@
+package org.carlspring.strongbox.benchmarks;
+
+import org.carlspring.strongbox.artifact.coordinates.NullArtifactCoordinates;
+import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The latency of the last page of the artifact entries of a repository, queried with the offset and with the keyset
+ * paging. The number of entries can be lowered with {@code -p entries=<n>}, as storing them takes a while.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArtifactEntryPagingBenchmark
+{
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param("1000000")
+    private int entries;
+
+    private ArtifactEntryService artifactEntryService;
+
+    private int lastPageSkip;
+
+    private String lastPageAfter;
+
+    @Setup(Level.Trial)
+    public void setUp(StrongboxBenchmarkContext context)
+    {
+        artifactEntryService = context.getBean(ArtifactEntryService.class);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        for (int i = 0; i < entries; i += BATCH_SIZE)
+        {
+            int from = i;
+            int to = Math.min(i + BATCH_SIZE, entries);
+            transactionTemplate.execute(t -> {
+                for (int j = from; j < to; j++)
+                {
+                    ArtifactEntry artifactEntry = new ArtifactEntry();
+                    artifactEntry.setArtifactCoordinates(new NullArtifactCoordinates(String.format("%s/%s/%s/%s",
+                                                                                                   "org.carlspring.strongbox.benchmark",
+                                                                                                   "paging-artifact-" + j,
+                                                                                                   "1.0",
+                                                                                                   "jar")));
+                    artifactEntry.setStorageId(StrongboxBenchmarkContext.STORAGE_ID);
+                    artifactEntry.setRepositoryId(StrongboxBenchmarkContext.REPOSITORY_ID);
+
+                    artifactEntryService.save(artifactEntry);
+                }
+
+                return null;
+            });
+        }
+
+        // The keyset page starts after the last entry of the page which precedes the last one.
+        lastPageSkip = entries - PAGE_SIZE;
+        lastPageAfter = findArtifactList(new PagingCriteria(lastPageSkip - 1, 1)).get(0).getUuid();
+    }
+
+    @Benchmark
+    public List<ArtifactEntry> lastPageByOffset()
+    {
+        return findArtifactList(new PagingCriteria(lastPageSkip, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<ArtifactEntry> lastPageByKeyset()
+    {
+        return findArtifactList(PagingCriteria.after(lastPageAfter, PAGE_SIZE));
+    }
+
+    private List<ArtifactEntry> findArtifactList(PagingCriteria pagingCriteria)
+    {
+        return artifactEntryService.findArtifactList(StrongboxBenchmarkContext.STORAGE_ID,
+                                                     StrongboxBenchmarkContext.REPOSITORY_ID,
+                                                     Collections.emptyMap(),
+                                                     Collections.emptySet(),
+                                                     pagingCriteria,
+                                                     true);
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.carlspring.strongbox.benchmarks;
+
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.services.support.ArtifactRoutingRulesChecker;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArtifactRoutingRulesCheckerBenchmark
+{
+
+    private ArtifactRoutingRulesChecker artifactRoutingRulesChecker;
+
+    private RepositoryPath acceptedPath;
+
+    private RepositoryPath deniedPath;
+
+    @Setup(Level.Trial)
+    public void setUp(StrongboxBenchmarkContext context)
+    {
+        artifactRoutingRulesChecker = context.getBean(ArtifactRoutingRulesChecker.class);
+        acceptedPath = context.resolve(StrongboxBenchmarkContext.ARTIFACT_PATH);
+        deniedPath = context.resolve("org/carlspring/strongbox/benchmark/denied/1.0/denied-1.0.jar");
+    }
+
+    @Benchmark
+    public boolean isDeniedAccepted()
+        throws IOException
+    {
+        return artifactRoutingRulesChecker.isDenied(StrongboxBenchmarkContext.GROUP_REPOSITORY_ID, acceptedPath);
+    }
+
+    @Benchmark
+    public boolean isDeniedDenied()
+        throws IOException
+    {
+        return artifactRoutingRulesChecker.isDenied(StrongboxBenchmarkContext.GROUP_REPOSITORY_ID, deniedPath);
+    }
+
+}
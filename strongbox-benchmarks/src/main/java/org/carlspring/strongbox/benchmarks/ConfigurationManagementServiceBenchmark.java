@@ -0,0 +1,43 @@
+package org.carlspring.strongbox.benchmarks;
+
+import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.services.ConfigurationManagementService;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigurationManagementServiceBenchmark
+{
+
+    private ConfigurationManagementService configurationManagementService;
+
+    @Setup(Level.Trial)
+    public void setUp(StrongboxBenchmarkContext context)
+    {
+        configurationManagementService = context.getBean(ConfigurationManagementService.class);
+    }
+
+    @Benchmark
+    public Configuration getConfiguration()
+    {
+        return configurationManagementService.getConfiguration();
+    }
+
+}
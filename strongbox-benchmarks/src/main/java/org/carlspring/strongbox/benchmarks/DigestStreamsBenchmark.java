@@ -0,0 +1,160 @@
+package org.carlspring.strongbox.benchmarks;
+
+import org.carlspring.strongbox.io.LayoutInputStream;
+import org.carlspring.strongbox.io.LayoutOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.output.NullOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the digesting {@link LayoutInputStream} and {@link LayoutOutputStream} on multi-GB content.
+ * <br>
+ * An empty {@code algorithms} parameter is the read of an artifact with trusted stored checksums.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DigestStreamsBenchmark
+{
+
+    private static final long MB = 1024L * 1024L;
+
+    @Param({ "1024", "4096" })
+    private long sizeInMb;
+
+    @Param({ "", "MD5", "MD5,SHA-1" })
+    private String algorithms;
+
+    @Param({ "4096", "65536" })
+    private int bufferSize;
+
+    private Set<String> algorithmSet;
+
+    private byte[] buffer;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        algorithmSet = new LinkedHashSet<>();
+        Arrays.stream(algorithms.split(","))
+              .filter(a -> !a.isEmpty())
+              .forEach(algorithmSet::add);
+
+        buffer = new byte[bufferSize];
+        Arrays.fill(buffer, (byte) 'x');
+    }
+
+    @Benchmark
+    public long read()
+        throws IOException,
+               NoSuchAlgorithmException
+    {
+        long total = 0;
+        try (LayoutInputStream is = new LayoutInputStream(new ContentInputStream(sizeInMb * MB), algorithmSet))
+        {
+            int n;
+            while ((n = is.read(buffer)) != -1)
+            {
+                total += n;
+            }
+
+            for (String algorithm : algorithmSet)
+            {
+                is.getMessageDigestAsHexadecimalString(algorithm);
+            }
+        }
+
+        return total;
+    }
+
+    @Benchmark
+    public int write()
+        throws IOException,
+               NoSuchAlgorithmException
+    {
+        try (LayoutOutputStream os = new LayoutOutputStream(NullOutputStream.NULL_OUTPUT_STREAM))
+        {
+            for (String algorithm : algorithmSet)
+            {
+                os.addAlgorithm(algorithm);
+            }
+
+            for (long written = 0; written < sizeInMb * MB; written += buffer.length)
+            {
+                os.write(buffer);
+            }
+
+            return os.getDigestMap().size();
+        }
+    }
+
+    /**
+     * Content of the given length, generated without holding it in memory.
+     */
+    private static class ContentInputStream
+            extends InputStream
+    {
+
+        private long remaining;
+
+        private ContentInputStream(long length)
+        {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read()
+        {
+            if (remaining == 0)
+            {
+                return -1;
+            }
+
+            remaining--;
+
+            return 'x';
+        }
+
+        @Override
+        public int read(byte[] b,
+                        int off,
+                        int len)
+        {
+            if (remaining == 0)
+            {
+                return -1;
+            }
+
+            int n = (int) Math.min(len, remaining);
+            Arrays.fill(b, off, off + n, (byte) 'x');
+            remaining -= n;
+
+            return n;
+        }
+
+    }
+
+}
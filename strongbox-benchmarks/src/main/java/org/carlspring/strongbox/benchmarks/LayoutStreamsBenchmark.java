@@ -0,0 +1,63 @@
+package org.carlspring.strongbox.benchmarks;
+
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reads and writes an artifact through the `LayoutFileSystemProvider` streams, which digest the content on the fly.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LayoutStreamsBenchmark
+{
+
+    private static final String WRITE_PATH = "org/carlspring/strongbox/benchmark/benchmark-write/1.0/benchmark-write-1.0.jar";
+
+    @Benchmark
+    public void newInputStream(StrongboxBenchmarkContext context,
+                               Blackhole blackhole)
+        throws IOException
+    {
+        RepositoryPath repositoryPath = context.resolve(StrongboxBenchmarkContext.ARTIFACT_PATH);
+
+        byte[] buffer = new byte[8192];
+        try (InputStream is = Files.newInputStream(repositoryPath))
+        {
+            int n;
+            while ((n = is.read(buffer)) != -1)
+            {
+                blackhole.consume(n);
+            }
+        }
+    }
+
+    @Benchmark
+    public void newOutputStream(StrongboxBenchmarkContext context)
+        throws IOException
+    {
+        RepositoryPath repositoryPath = context.resolve(WRITE_PATH);
+
+        try (OutputStream os = Files.newOutputStream(repositoryPath))
+        {
+            os.write(context.getArtifactContent());
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.carlspring.strongbox.benchmarks;
+
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.metadata.MavenMetadataManager;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MavenMetadataManagerBenchmark
+{
+
+    private MavenMetadataManager mavenMetadataManager;
+
+    private RepositoryPath artifactBasePath;
+
+    @Setup(Level.Trial)
+    public void setUp(StrongboxBenchmarkContext context)
+    {
+        mavenMetadataManager = context.getBean(MavenMetadataManager.class);
+        artifactBasePath = context.resolve(StrongboxBenchmarkContext.ARTIFACT_BASE_PATH);
+    }
+
+    @Benchmark
+    public Metadata readMetadata()
+        throws IOException,
+               XmlPullParserException
+    {
+        return mavenMetadataManager.readMetadata(artifactBasePath);
+    }
+
+}
@@ -0,0 +1,54 @@
+package org.carlspring.strongbox.benchmarks;
+
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryPathResolverBenchmark
+{
+
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Setup(Level.Trial)
+    public void setUp(StrongboxBenchmarkContext context)
+    {
+        repositoryPathResolver = context.getBean(RepositoryPathResolver.class);
+    }
+
+    @Benchmark
+    public void resolve(StrongboxBenchmarkContext context,
+                        Blackhole blackhole)
+    {
+        blackhole.consume(repositoryPathResolver.resolve(context.getRepository(),
+                                                         StrongboxBenchmarkContext.ARTIFACT_PATH));
+    }
+
+    @Benchmark
+    public void resolveWithStorageAndRepositoryIds(StrongboxBenchmarkContext context,
+                                                   Blackhole blackhole)
+    {
+        blackhole.consume(repositoryPathResolver.resolve(StrongboxBenchmarkContext.STORAGE_ID,
+                                                         StrongboxBenchmarkContext.REPOSITORY_ID,
+                                                         StrongboxBenchmarkContext.ARTIFACT_PATH));
+    }
+
+}
@@ -0,0 +1,176 @@
+package org.carlspring.strongbox.benchmarks;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.services.ConfigurationManagementService;
+import org.carlspring.strongbox.services.RepositoryManagementService;
+import org.carlspring.strongbox.storage.repository.MavenRepositoryFactory;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRule;
+import org.carlspring.strongbox.storage.routing.MutableRuleSet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Strongbox storage context shared by the benchmarks.
+ * <br>
+ * The context runs against a temporary directory and the in-memory OrientDB server, and contains a hosted Maven
+ * repository with a single artifact and its metadata, and a group repository with a deny rule for it.
+ */
+@State(Scope.Benchmark)
+public class StrongboxBenchmarkContext
+{
+
+    public static final String STORAGE_ID = "storage0";
+
+    public static final String REPOSITORY_ID = "benchmark-releases";
+
+    public static final String GROUP_REPOSITORY_ID = "benchmark-group";
+
+    public static final String ARTIFACT_BASE_PATH = "org/carlspring/strongbox/benchmark/benchmark-artifact";
+
+    public static final String ARTIFACT_PATH = ARTIFACT_BASE_PATH + "/1.0/benchmark-artifact-1.0.jar";
+
+    public static final int ARTIFACT_SIZE = 1024 * 1024;
+
+    private static final String METADATA = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                                           "<metadata>\n" +
+                                           "  <groupId>org.carlspring.strongbox.benchmark</groupId>\n" +
+                                           "  <artifactId>benchmark-artifact</artifactId>\n" +
+                                           "  <versioning>\n" +
+                                           "    <latest>1.0</latest>\n" +
+                                           "    <release>1.0</release>\n" +
+                                           "    <versions>\n" +
+                                           "      <version>1.0</version>\n" +
+                                           "    </versions>\n" +
+                                           "    <lastUpdated>20180101000000</lastUpdated>\n" +
+                                           "  </versioning>\n" +
+                                           "</metadata>\n";
+
+    private Path baseDirectory;
+
+    private AnnotationConfigApplicationContext applicationContext;
+
+    private RepositoryPathResolver repositoryPathResolver;
+
+    private Repository repository;
+
+    private byte[] artifactContent;
+
+    @Setup(Level.Trial)
+    public void setUp()
+        throws Exception
+    {
+        baseDirectory = Files.createTempDirectory("strongbox-benchmarks");
+
+        Path home = baseDirectory.resolve("strongbox");
+        Path vault = baseDirectory.resolve("strongbox-vault");
+        System.setProperty("strongbox.home", home.toString());
+        System.setProperty("strongbox.vault", vault.toString());
+        System.setProperty("strongbox.storage.booter.basedir", vault.resolve("storages").toString());
+        System.setProperty("ehcache.disk.store.dir", home.resolve("cache").toString());
+
+        applicationContext = new AnnotationConfigApplicationContext(Maven2LayoutProviderTestConfig.class);
+        repositoryPathResolver = getBean(RepositoryPathResolver.class);
+
+        createRepositories();
+
+        artifactContent = new byte[ARTIFACT_SIZE];
+        new Random(0).nextBytes(artifactContent);
+
+        RepositoryPath artifactPath = resolve(ARTIFACT_PATH);
+        try (OutputStream os = Files.newOutputStream(artifactPath))
+        {
+            os.write(artifactContent);
+        }
+
+        RepositoryPath metadataPath = resolve(ARTIFACT_BASE_PATH + "/maven-metadata.xml");
+        try (OutputStream os = Files.newOutputStream(metadataPath))
+        {
+            os.write(METADATA.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws IOException
+    {
+        applicationContext.close();
+
+        try (Stream<Path> paths = Files.walk(baseDirectory))
+        {
+            paths.sorted(Comparator.reverseOrder())
+                 .forEach(p -> p.toFile().delete());
+        }
+    }
+
+    private void createRepositories()
+        throws Exception
+    {
+        ConfigurationManagementService configurationManagementService = getBean(ConfigurationManagementService.class);
+        RepositoryManagementService repositoryManagementService = getBean(RepositoryManagementService.class);
+
+        MavenRepositoryFactory mavenRepositoryFactory = getBean(MavenRepositoryFactory.class);
+
+        MutableRepository hostedRepository = mavenRepositoryFactory.createRepository(REPOSITORY_ID);
+        configurationManagementService.saveRepository(STORAGE_ID, hostedRepository);
+        repositoryManagementService.createRepository(STORAGE_ID, REPOSITORY_ID);
+
+        MutableRepository groupRepository = mavenRepositoryFactory.createRepository(GROUP_REPOSITORY_ID);
+        groupRepository.setType(RepositoryTypeEnum.GROUP.getType());
+        groupRepository.setGroupRepositories(Collections.singleton(REPOSITORY_ID));
+        configurationManagementService.saveRepository(STORAGE_ID, groupRepository);
+        repositoryManagementService.createRepository(STORAGE_ID, GROUP_REPOSITORY_ID);
+
+        MutableRoutingRule routingRule = new MutableRoutingRule();
+        routingRule.setPattern(".*/benchmark/denied/.*");
+        routingRule.setRepositories(new HashSet<>(Collections.singletonList(REPOSITORY_ID)));
+
+        MutableRuleSet ruleSet = new MutableRuleSet();
+        ruleSet.setGroupRepository(GROUP_REPOSITORY_ID);
+        ruleSet.setRoutingRules(Collections.singletonList(routingRule));
+        configurationManagementService.saveDeniedRuleSet(ruleSet);
+
+        repository = configurationManagementService.getConfiguration().getRepository(STORAGE_ID, REPOSITORY_ID);
+    }
+
+    public <T> T getBean(Class<T> type)
+    {
+        return applicationContext.getBean(type);
+    }
+
+    public Repository getRepository()
+    {
+        return repository;
+    }
+
+    public byte[] getArtifactContent()
+    {
+        return artifactContent;
+    }
+
+    public RepositoryPath resolve(String path)
+    {
+        return repositoryPathResolver.resolve(repository, path);
+    }
+
+}
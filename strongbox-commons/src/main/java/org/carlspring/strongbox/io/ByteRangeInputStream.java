@@ -67,7 +67,7 @@ public class ByteRangeInputStream
         }
 
         int numberOfBytesRead = in.read(bytes, off, len);
-        if (limit > 0 && bytesRead < limit)
+        if (numberOfBytesRead > 0 && limit > 0 && bytesRead < limit)
         {
             bytesRead += numberOfBytesRead;
         }
@@ -79,21 +79,7 @@ public class ByteRangeInputStream
     public int read(byte[] bytes)
             throws IOException
     {
-        if (hasReachedLimit())
-        {
-            return -1;
-        }
-
-        int len = in.read(bytes);
-
-        bytesRead += len;
-
-        if (limit > 0 && bytesRead < limit)
-        {
-            bytesRead += len;
-        }
-
-        return len;
+        return read(bytes, 0, bytes.length);
     }
 
 }
@@ -23,6 +23,8 @@ public class HazelcastConfiguration
 
     public static final int ARTIFACT_ENTRY_CACHE_INVALIDATE_INTERVAL = 60;
     public static final int AUTHENTICATION_CACHE_INVALIDATE_INTERVAL = 10;
+    public static final int NOT_FOUND_PATHS_CACHE_INVALIDATE_INTERVAL = 30;
+    public static final int NOT_FOUND_PATHS_CACHE_SIZE = 10000;
 
     public static MapConfig authenticationCacheConfig(String name)
     {
@@ -42,6 +44,24 @@ public class HazelcastConfiguration
                                                                                      .setTimeToLiveSeconds(ARTIFACT_ENTRY_CACHE_INVALIDATE_INTERVAL));
     }
 
+    /**
+     * The entries are read on every group and proxy repository lookup, so they are kept in the near cache of every
+     * member, which is invalidated once they are removed anywhere in the cluster.
+     */
+    public static MapConfig notFoundPathsCacheConfig(String name)
+    {
+        return new MapConfig().setName(name)
+                              .setTimeToLiveSeconds(NOT_FOUND_PATHS_CACHE_INVALIDATE_INTERVAL)
+                              .setMaxSizeConfig(new MaxSizeConfig(NOT_FOUND_PATHS_CACHE_SIZE,
+                                                                  MaxSizeConfig.MaxSizePolicy.PER_NODE))
+                              .setEvictionPolicy(EvictionPolicy.LRU)
+                              .setNearCacheConfig(new NearCacheConfig().setCacheLocalEntries(true)
+                                                                       .setEvictionConfig(new EvictionConfig().setMaximumSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                                                                                                              .setSize(NOT_FOUND_PATHS_CACHE_SIZE))
+                                                                       .setInvalidateOnChange(true)
+                                                                       .setTimeToLiveSeconds(NOT_FOUND_PATHS_CACHE_INVALIDATE_INTERVAL));
+    }
+
     public static MapConfig newDefaultMapConfig(String name)
     {
         return new MapConfig().setName(name)
@@ -66,6 +86,7 @@ public class HazelcastConfiguration
     {
         final Config config = new Config().setInstanceName(hazelcastInstanceId.getInstanceName())
                                           .addMapConfig(newDefaultMapConfig(CacheName.Repository.REMOTE_REPOSITORY_ALIVENESS))
+                                          .addMapConfig(notFoundPathsCacheConfig(CacheName.Repository.NOT_FOUND_PATHS))
                                           .addMapConfig(newDefaultMapConfig(CacheName.Artifact.TAGS))
                                           .addMapConfig(authenticationCacheConfig(CacheName.User.AUTHENTICATIONS));
         config.getGroupConfig().setName("strongbox").setPassword("password");
@@ -22,6 +22,8 @@ public final class CacheName
 
         public static final String REMOTE_REPOSITORY_ALIVENESS = "remoteRepositoryAliveness";
 
+        public static final String NOT_FOUND_PATHS = "notFoundPaths";
+
     }
 
 
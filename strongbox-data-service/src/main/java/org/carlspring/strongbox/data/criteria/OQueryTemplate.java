@@ -7,10 +7,12 @@ import java.util.Map;
 import javax.persistence.EntityManager;
 
 import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
+import org.carlspring.strongbox.data.criteria.Paginator.Order;
 import org.carlspring.strongbox.data.domain.GenericEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import com.orientechnologies.orient.object.db.OObjectDatabaseTx;
@@ -25,6 +27,8 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
 {
     private static final Logger logger = LoggerFactory.getLogger(OQueryTemplate.class);
 
+    private static final String KEYSET_PARAMETER_NAME = "after";
+
     protected EntityManager entityManager;
 
     public OQueryTemplate()
@@ -48,7 +52,7 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         String sQuery = calculateQueryString(s);
 
         OSQLSynchQuery<T> oQuery = new OSQLSynchQuery<>(sQuery);
-        Map<String, Object> parameterMap = exposeParameterMap(s.getPredicate());
+        Map<String, Object> parameterMap = exposeParameterMap(s);
 
         logger.debug(String.format("Executing SQL query:%n\t[%s]%nWith parameters:%n\t[%s]", sQuery, parameterMap));
 
@@ -72,6 +76,17 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         return (OObjectDatabaseTx) entityManager.getDelegate();
     }
 
+    /**
+     * @return the parameters of the {@link #calculateQueryString(Selector)} query, the keyset one included
+     */
+    public Map<String, Object> exposeParameterMap(Selector<T> selector)
+    {
+        Map<String, Object> result = exposeParameterMap(selector.getPredicate());
+        exposeKeysetParameter(selector.getPaginator(), result);
+
+        return result;
+    }
+
     public Map<String, Object> exposeParameterMap(Predicate p)
     {
         return exposeParameterMap(p, 0);
@@ -102,21 +117,35 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         sb.append(" FROM ").append(selector.getTargetClass().getSimpleName());
 
         Predicate p = selector.getPredicate();
-        if (p.isEmpty())
+        Paginator paginator = selector.getPaginator();
+        boolean keyset = paginator != null && paginator.isKeyset();
+        if (p.isEmpty() && !keyset)
         {
             return sb.toString();
         }
 
         sb.append(" WHERE ");
-        sb.append(predicateToken(p, 0));
+        if (!p.isEmpty() && keyset)
+        {
+            sb.append("(").append(predicateToken(p, 0)).append(") AND ").append(keysetToken(paginator));
+        }
+        else if (keyset)
+        {
+            sb.append(keysetToken(paginator));
+        }
+        else
+        {
+            sb.append(predicateToken(p, 0));
+        }
 
-        Paginator paginator = selector.getPaginator();
-        if (paginator != null && paginator.getProperty() != null && !paginator.getProperty().trim().isEmpty())
+        String orderProperty = calculateOrderProperty(paginator);
+        if (orderProperty != null)
         {
-            sb.append(String.format(" ORDER BY %s %s", paginator.getProperty(), paginator.getOrder()));
+            sb.append(String.format(" ORDER BY %s %s", orderProperty, paginator.getOrder()));
         }
 
-        if (paginator != null && paginator.getSkip() > 0)
+        // The keyset already starts the page after the previous one, so the preceding records are not skipped.
+        if (paginator != null && !keyset && paginator.getSkip() > 0)
         {
             sb.append(String.format(" SKIP %s", paginator.getSkip()));
         }
@@ -133,6 +162,46 @@ public class OQueryTemplate<R, T extends GenericEntity> implements QueryTemplate
         return sb.toString();
     }
 
+    private String calculateOrderProperty(Paginator paginator)
+    {
+        if (paginator == null)
+        {
+            return null;
+        }
+        if (paginator.getProperty() != null && !paginator.getProperty().trim().isEmpty())
+        {
+            return paginator.getProperty();
+        }
+
+        return paginator.isKeyset() ? Paginator.RID : null;
+    }
+
+    protected String keysetToken(Paginator paginator)
+    {
+        return String.format("%s %s :%s",
+                             calculateOrderProperty(paginator),
+                             Order.DESC.equals(paginator.getOrder()) ? "<" : ">",
+                             KEYSET_PARAMETER_NAME);
+    }
+
+    private void exposeKeysetParameter(Paginator paginator,
+                                       Map<String, Object> parameterMap)
+    {
+        if (paginator == null || !paginator.isKeyset())
+        {
+            return;
+        }
+
+        Object after = paginator.getAfter();
+        if (Paginator.RID.equals(calculateOrderProperty(paginator)) && after instanceof String)
+        {
+            // The entities expose their record ID as the `objectId` string.
+            after = new ORecordId((String) after);
+        }
+
+        parameterMap.put(KEYSET_PARAMETER_NAME, after);
+    }
+
     protected String predicateToken(Predicate p,
                                     int tokenCount)
     {
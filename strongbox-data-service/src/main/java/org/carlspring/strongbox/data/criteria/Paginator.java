@@ -1,16 +1,27 @@
 package org.carlspring.strongbox.data.criteria;
 
+/**
+ * Pages the {@link Selector} results either with the {@link #getSkip()} offset, or, once the {@link #getAfter()} key
+ * is set, with the keyset of the {@link #getProperty()} values, so that the deep pages are queried from the index
+ * instead of skipping all the preceding records.
+ * <br>
+ * The keyset paging needs the {@link #getProperty()} to be unique, like the {@link #RID} one (the default).
+ */
 public class Paginator
 {
 
     public static final Integer MAX_LIMIT = 1000;
 
+    public static final String RID = "@rid";
+
     private Integer skip;
     private Integer limit;
 
     private String property;
     private Order order = Order.ASC;
 
+    private Object after;
+
     public Integer getSkip()
     {
         return skip == null ? Integer.valueOf(0) : skip;
@@ -51,6 +62,25 @@ public class Paginator
         this.order = order;
     }
 
+    /**
+     * @return the {@link #getProperty()} value of the last record of the previous page, or {@code null} for the
+     *         offset paging
+     */
+    public Object getAfter()
+    {
+        return after;
+    }
+
+    public void setAfter(Object after)
+    {
+        this.after = after;
+    }
+
+    public boolean isKeyset()
+    {
+        return after != null;
+    }
+
     public static enum Order
     {
         ASC, DESC;
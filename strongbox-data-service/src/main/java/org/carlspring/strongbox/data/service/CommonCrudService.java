@@ -3,6 +3,8 @@ package org.carlspring.strongbox.data.service;
 import org.carlspring.strongbox.data.domain.GenericEntity;
 import org.carlspring.strongbox.data.service.impl.EntityServiceRegistry;
 import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
+import org.carlspring.strongbox.data.service.support.search.Sort.Direction;
+import org.carlspring.strongbox.data.service.support.search.Sort.Order;
 
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
@@ -33,6 +35,8 @@ public abstract class CommonCrudService<T extends GenericEntity>
 
     private static final Logger logger = LoggerFactory.getLogger(CommonCrudService.class);
 
+    protected static final String KEYSET_PARAMETER_NAME = "after";
+
     @PersistenceContext
     protected EntityManager entityManager;
 
@@ -309,13 +313,33 @@ public abstract class CommonCrudService<T extends GenericEntity>
         return simpleName;
     }
 
+    /**
+     * @return the condition which starts the {@link PagingCriteria#isKeyset()} page right after the previous one,
+     *         with the {@link #KEYSET_PARAMETER_NAME} parameter, or {@code null} for the offset paging
+     */
+    protected String calculateKeysetCondition(PagingCriteria pagingCriteria)
+    {
+        if (!pagingCriteria.isKeyset())
+        {
+            return null;
+        }
+
+        Order order = pagingCriteria.getSort().getOrders().get(0);
+
+        return String.format("%s %s :%s",
+                             order.getProperty(),
+                             Direction.DESC.equals(order.getDirection()) ? "<" : ">",
+                             KEYSET_PARAMETER_NAME);
+    }
+
     protected void appendPagingCriteria(StringBuilder queryBuilder,
                                         PagingCriteria pagingCriteria)
     {
 
         queryBuilder.append(String.format(" ORDER BY %s", pagingCriteria.getSort()));
 
-        if (pagingCriteria.getSkip() > 0)
+        // The keyset condition already starts the page after the previous one.
+        if (!pagingCriteria.isKeyset() && pagingCriteria.getSkip() > 0)
         {
             queryBuilder.append(String.format(" SKIP %s", pagingCriteria.getSkip()));
         }
@@ -5,6 +5,9 @@ import javax.annotation.concurrent.Immutable;
 import java.util.Objects;
 
 /**
+ * Pages the results either with the {@link #getSkip()} offset, or with the keyset of the sort property values, see
+ * {@link #after(Object, int, Sort)}.
+ *
  * @author Przemyslaw Fusik
  */
 @Immutable
@@ -19,15 +22,26 @@ public class PagingCriteria
 
     private final Sort sort;
 
+    private final Object after;
+
     public PagingCriteria(final int skip,
                           final int limit,
                           @Nonnull final Sort sort)
+    {
+        this(skip, limit, sort, null);
+    }
+
+    private PagingCriteria(final int skip,
+                           final int limit,
+                           @Nonnull final Sort sort,
+                           final Object after)
     {
         Objects.requireNonNull(sort, "Sort cannot be null");
 
         this.skip = skip;
         this.limit = limit;
         this.sort = sort;
+        this.after = after;
     }
 
     public PagingCriteria(final int skip,
@@ -36,6 +50,33 @@ public class PagingCriteria
         this(skip, limit, Sort.byUuid());
     }
 
+    /**
+     * The page which follows the record whose sort property value is {@code after}. The deep pages are queried from
+     * the index of the sort property, instead of skipping all the preceding records, so the sort has to be by a single
+     * unique property, like the {@link Sort#byUuid()} one.
+     *
+     * @param after the sort property value of the last record of the previous page, or {@code null} for the first
+     *              page
+     */
+    public static PagingCriteria after(final Object after,
+                                       final int limit,
+                                       @Nonnull final Sort sort)
+    {
+        Objects.requireNonNull(sort, "Sort cannot be null");
+        if (sort.getOrders().size() != 1)
+        {
+            throw new IllegalArgumentException("Keyset paging requires the sort by a single property.");
+        }
+
+        return new PagingCriteria(0, limit, sort, after);
+    }
+
+    public static PagingCriteria after(final Object after,
+                                       final int limit)
+    {
+        return after(after, limit, Sort.byUuid());
+    }
+
     public int getSkip()
     {
         return skip;
@@ -51,4 +92,14 @@ public class PagingCriteria
     {
         return sort;
     }
+
+    public Object getAfter()
+    {
+        return after;
+    }
+
+    public boolean isKeyset()
+    {
+        return after != null;
+    }
 }
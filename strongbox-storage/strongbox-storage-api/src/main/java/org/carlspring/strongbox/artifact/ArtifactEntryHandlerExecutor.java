@@ -0,0 +1,276 @@
+package org.carlspring.strongbox.artifact;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded executor for the {@link AsyncArtifactEntryHandler}s.
+ * <br>
+ * The tasks are queued per key (the {@link org.carlspring.strongbox.domain.ArtifactEntry} path), so the updates of the
+ * same entry are applied one after another in submission order, while the updates of different entries run in
+ * parallel. When all the workers are busy and the queue is full, the submitter blocks until there is room for its
+ * task.
+ */
+@Component
+public class ArtifactEntryHandlerExecutor implements DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactEntryHandlerExecutor.class);
+
+    public static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    public static final int QUEUE_CAPACITY = 1024;
+
+    private final ThreadPoolExecutor executor;
+
+    private final ConcurrentMap<String, KeyQueue> keyQueues = new ConcurrentHashMap<>();
+
+    private final AtomicLong submittedTaskCount = new AtomicLong();
+
+    private final AtomicLong failedTaskCount = new AtomicLong();
+
+    private final AtomicLong blockedSubmissionCount = new AtomicLong();
+
+    public ArtifactEntryHandlerExecutor()
+    {
+        this(POOL_SIZE, QUEUE_CAPACITY);
+    }
+
+    public ArtifactEntryHandlerExecutor(int poolSize,
+                                        int queueCapacity)
+    {
+        executor = new ThreadPoolExecutor(poolSize,
+                                          poolSize,
+                                          60L,
+                                          TimeUnit.SECONDS,
+                                          new ArrayBlockingQueue<>(queueCapacity),
+                                          new CustomizableThreadFactory("artifact-entry-handler-"),
+                                          new BlockingSubmissionPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdown();
+    }
+
+    /**
+     * Schedules the task after all the previously submitted tasks with the same key.
+     *
+     * @return the future completed with the task result
+     */
+    public <T> CompletableFuture<T> submit(String key,
+                                           Callable<T> task)
+    {
+        KeyedTask<T> keyedTask = new KeyedTask<>(task);
+
+        submittedTaskCount.incrementAndGet();
+
+        KeyQueue[] scheduled = new KeyQueue[1];
+        keyQueues.compute(key, (k, q) -> {
+            KeyQueue keyQueue = q == null ? new KeyQueue(k) : q;
+            keyQueue.tasks.add(keyedTask);
+            if (!keyQueue.scheduled)
+            {
+                keyQueue.scheduled = true;
+                scheduled[0] = keyQueue;
+            }
+
+            return keyQueue;
+        });
+
+        if (scheduled[0] != null)
+        {
+            execute(scheduled[0]);
+        }
+
+        return keyedTask.result;
+    }
+
+    private void execute(KeyQueue keyQueue)
+    {
+        try
+        {
+            executor.execute(keyQueue);
+        }
+        catch (RejectedExecutionException e)
+        {
+            // The queued tasks of the key are failed, so that nobody waits for them forever.
+            keyQueues.remove(keyQueue.key, keyQueue);
+
+            KeyedTask<?> task;
+            while ((task = keyQueue.tasks.poll()) != null)
+            {
+                task.reject(e);
+            }
+        }
+    }
+
+    public int getQueueSize()
+    {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount()
+    {
+        return executor.getActiveCount();
+    }
+
+    public int getPendingKeyCount()
+    {
+        return keyQueues.size();
+    }
+
+    public long getSubmittedTaskCount()
+    {
+        return submittedTaskCount.get();
+    }
+
+    public long getCompletedTaskCount()
+    {
+        return executor.getCompletedTaskCount();
+    }
+
+    public long getFailedTaskCount()
+    {
+        return failedTaskCount.get();
+    }
+
+    public long getBlockedSubmissionCount()
+    {
+        return blockedSubmissionCount.get();
+    }
+
+    /**
+     * Tasks of a single key, which are run one by one by a single worker.
+     */
+    private class KeyQueue implements Runnable
+    {
+
+        private final String key;
+
+        private final Queue<KeyedTask<?>> tasks = new ArrayDeque<>();
+
+        private boolean scheduled;
+
+        private KeyQueue(String key)
+        {
+            this.key = key;
+        }
+
+        @Override
+        public void run()
+        {
+            for (KeyedTask<?> task = next(); task != null; task = next())
+            {
+                task.run();
+            }
+        }
+
+        private KeyedTask<?> next()
+        {
+            KeyedTask<?>[] next = new KeyedTask<?>[1];
+            keyQueues.computeIfPresent(key, (k, q) -> {
+                next[0] = q.tasks.poll();
+                if (next[0] != null)
+                {
+                    return q;
+                }
+
+                q.scheduled = false;
+
+                return null;
+            });
+
+            return next[0];
+        }
+
+    }
+
+    private class KeyedTask<T> implements Runnable
+    {
+
+        private final Callable<T> task;
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private KeyedTask(Callable<T> task)
+        {
+            this.task = task;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                result.complete(task.call());
+            }
+            catch (Throwable e)
+            {
+                reject(e);
+            }
+        }
+
+        private void reject(Throwable e)
+        {
+            failedTaskCount.incrementAndGet();
+            result.completeExceptionally(e);
+        }
+
+    }
+
+    /**
+     * Blocks the submitter until the executor has room for the task. Running the task in the submitter thread is not
+     * an option, because the handlers need a thread without a transaction bound to it.
+     */
+    private class BlockingSubmissionPolicy implements RejectedExecutionHandler
+    {
+
+        @Override
+        public void rejectedExecution(Runnable task,
+                                      ThreadPoolExecutor threadPoolExecutor)
+        {
+            if (threadPoolExecutor.isShutdown())
+            {
+                throw new RejectedExecutionException("Executor has been shut down.");
+            }
+
+            long blocked = blockedSubmissionCount.incrementAndGet();
+            logger.debug(String.format("Handler queue is full, blocking submission: queueSize=[%s], activeCount=[%s], blockedSubmissions=[%s].",
+                                       threadPoolExecutor.getQueue().size(),
+                                       threadPoolExecutor.getActiveCount(),
+                                       blocked));
+
+            try
+            {
+                threadPoolExecutor.getQueue().put(task);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+
+                throw new RejectedExecutionException("Interrupted while waiting for the handler queue.", e);
+            }
+        }
+
+    }
+
+}
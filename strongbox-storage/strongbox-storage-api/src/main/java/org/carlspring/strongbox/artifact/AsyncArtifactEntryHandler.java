@@ -37,6 +37,9 @@ public abstract class AsyncArtifactEntryHandler
     @Inject
     private PlatformTransactionManager transactionManager;
 
+    @Inject
+    private ArtifactEntryHandlerExecutor artifactEntryHandlerExecutor;
+
     private final ArtifactEventTypeEnum eventType;
 
     public AsyncArtifactEntryHandler(ArtifactEventTypeEnum eventType)
@@ -47,8 +50,7 @@ public abstract class AsyncArtifactEntryHandler
 
     @AsyncEventListener
     public void handleEvent(final ArtifactEvent<RepositoryPath> event)
-        throws IOException,
-        InterruptedException
+        throws IOException
     {
         if (eventType.getType() != event.getType())
         {
@@ -61,24 +63,23 @@ public abstract class AsyncArtifactEntryHandler
             return;
         }
 
-        // TODO: this is needed just as workadound to have new transaction
-        // within this async event (expected to be replaced with
-        // just Propagation.REQUIRES_NEW after SB-1200)
-        Thread threadWithNewTransactionContext = new Thread(() -> {
-            try
-            {
-                handleLocked(repositoryPath);
-            }
-            catch (Exception e)
+        // The handler runs on the dedicated executor to have new transaction within this async event (expected to be
+        // replaced with just Propagation.REQUIRES_NEW after SB-1200). The updates of the same entry are queued one
+        // after another, so they don't compete for the entry lock on this node. The event thread doesn't wait for the
+        // update, it's only held back by the executor when its queue is full.
+        String key = repositoryPath.toUri().toString();
+        artifactEntryHandlerExecutor.submit(key, () -> {
+            handleLocked(repositoryPath);
+
+            return null;
+        }).whenComplete((result, e) -> {
+            if (e != null)
             {
                 logger.error(String.format("Failed to handle async event [%s]",
                                            AsyncArtifactEntryHandler.this.getClass().getSimpleName()),
                              e);
             }
         });
-
-        threadWithNewTransactionContext.start();
-        threadWithNewTransactionContext.join();
     }
 
     private void handleLocked(RepositoryPath repositoryPath)
@@ -149,6 +150,21 @@ public abstract class AsyncArtifactEntryHandler
     }
 
     private void handleTransactional(RepositoryPath repositoryPath)
+    {
+        // The entry is modified concurrently by the handlers, so it should be fetched within the transaction, and the
+        // modified instance should not stay memoized on the path after it.
+        RepositoryFiles.invalidateArtifactEntry(repositoryPath);
+        try
+        {
+            doHandleTransactional(repositoryPath);
+        }
+        finally
+        {
+            RepositoryFiles.invalidateArtifactEntry(repositoryPath);
+        }
+    }
+
+    private void doHandleTransactional(RepositoryPath repositoryPath)
     {
         new TransactionTemplate(transactionManager).execute(t -> {
             try
@@ -9,6 +9,7 @@ import javax.inject.Inject;
 import java.util.LinkedHashSet;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -34,13 +35,12 @@ public class StorageApiConfig
     private List<ArtifactCoordinatesValidator> versionValidators;
 
     @Bean
-    ChecksumCacheManager checksumCacheManager()
+    ChecksumCacheManager checksumCacheManager(@Value("${strongbox.checksum.cache.maximumSize:" +
+                                                     ChecksumCacheManager.DEFAULT_MAXIMUM_SIZE + "}") long maximumSize,
+                                              @Value("${strongbox.checksum.cache.lifetime:" +
+                                                     ChecksumCacheManager.DEFAULT_CACHED_CHECKSUM_LIFETIME + "}") long lifetime)
     {
-        ChecksumCacheManager checksumCacheManager = new ChecksumCacheManager();
-        checksumCacheManager.setCachedChecksumExpiredCheckInterval(300000);
-        checksumCacheManager.setCachedChecksumLifetime(60000);
-
-        return checksumCacheManager;
+        return new ChecksumCacheManager(maximumSize, lifetime);
     }
 
     @Bean
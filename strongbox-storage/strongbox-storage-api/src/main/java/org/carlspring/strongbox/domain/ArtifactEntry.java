@@ -12,7 +12,9 @@ import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.Transient;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -41,6 +43,11 @@ public class ArtifactEntry
     @Embedded
     private ArtifactArchiveListing artifactArchiveListing;
 
+    /**
+     * Layout specific metadata, which would have to be read from the repository files otherwise.
+     */
+    private Map<String, String> artifactMetadata;
+
     private Long sizeInBytes;
 
     private Date lastUpdated;
@@ -155,6 +162,16 @@ public class ArtifactEntry
         this.artifactArchiveListing = artifactArchiveListing;
     }
 
+    public Map<String, String> getArtifactMetadata()
+    {
+        return artifactMetadata = Optional.ofNullable(artifactMetadata).orElse(new HashMap<>());
+    }
+
+    protected void setArtifactMetadata(Map<String, String> artifactMetadata)
+    {
+        this.artifactMetadata = artifactMetadata;
+    }
+
     @Transient
     public String getArtifactPath()
     {
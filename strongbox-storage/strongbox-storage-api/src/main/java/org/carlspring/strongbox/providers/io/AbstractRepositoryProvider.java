@@ -211,6 +211,7 @@ public abstract class AbstractRepositoryProvider extends RepositoryStreamSupport
         artifactEntry.setSizeInBytes(cos.getByteCount());
         
         artifactEntryService.save(artifactEntry, true);
+        RepositoryFiles.invalidateArtifactEntry(repositoryPath);
     }
 
     protected ArtifactEntry provideArtifactEntry(RepositoryPath repositoryPath) throws IOException
@@ -0,0 +1,163 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node local cache of the checksum file values of artifacts, so that serving an artifact doesn't have to open its
+ * checksum files every time.
+ * <br>
+ * The values are kept per artifact path together with the size and the last modified time of the artifact, and are
+ * read again when these change. Writing or deleting the artifact or one of its checksum files through the
+ * repository file system invalidates them immediately.
+ */
+@Component
+public class ChecksumValueCache
+{
+
+    public static final int MAXIMUM_SIZE = 10000;
+
+    private final Cache<Path, ChecksumValues> cache = CacheBuilder.newBuilder()
+                                                                  .maximumSize(MAXIMUM_SIZE)
+                                                                  .build();
+
+    /**
+     * Values loaded while an invalidation happened may be outdated already, and are not cached.
+     */
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public ChecksumValues get(RepositoryPath path,
+                              BasicFileAttributes attributes,
+                              Callable<ChecksumValues> loader)
+        throws IOException
+    {
+        Path key = path.getTarget();
+
+        ChecksumValues checksumValues = cache.getIfPresent(key);
+        if (checksumValues != null && checksumValues.matches(attributes))
+        {
+            return checksumValues;
+        }
+
+        long invalidations = invalidationCount.get();
+        try
+        {
+            checksumValues = loader.call();
+        }
+        catch (IOException | RuntimeException e)
+        {
+            throw e;
+        }
+        catch (Exception e)
+        {
+            throw new IOException(e);
+        }
+
+        if (invalidations == invalidationCount.get())
+        {
+            cache.put(key, checksumValues);
+        }
+
+        return checksumValues;
+    }
+
+    /**
+     * Invalidates the values of the artifact, if the path is an artifact, or of the artifact it belongs to, if the
+     * path is a checksum file.
+     */
+    public void invalidate(RepositoryPath path)
+    {
+        invalidationCount.incrementAndGet();
+
+        Path target = path.getTarget();
+        cache.invalidate(target);
+
+        Path fileName = target.getFileName();
+        if (fileName == null)
+        {
+            return;
+        }
+
+        String name = fileName.toString();
+        for (String digestAlgorithm : path.getFileSystem().getDigestAlgorithmSet())
+        {
+            String extension = "." + digestAlgorithm.replaceAll("-", "").toLowerCase();
+            if (name.endsWith(extension))
+            {
+                cache.invalidate(target.resolveSibling(name.substring(0, name.length() - extension.length())));
+            }
+        }
+    }
+
+    public void invalidateAll()
+    {
+        invalidationCount.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public long size()
+    {
+        return cache.size();
+    }
+
+    /**
+     * Checksum values of an artifact, by digest algorithm.
+     */
+    public static class ChecksumValues
+    {
+
+        private final FileTime lastModifiedTime;
+
+        private final long size;
+
+        private final Map<String, String> checksums;
+
+        private final Set<String> outdatedAlgorithms;
+
+        public ChecksumValues(BasicFileAttributes attributes,
+                              Map<String, String> checksums,
+                              Set<String> outdatedAlgorithms)
+        {
+            this.lastModifiedTime = attributes.lastModifiedTime();
+            this.size = attributes.size();
+            this.checksums = Collections.unmodifiableMap(checksums);
+            this.outdatedAlgorithms = Collections.unmodifiableSet(outdatedAlgorithms);
+        }
+
+        private boolean matches(BasicFileAttributes attributes)
+        {
+            return size == attributes.size() && lastModifiedTime.equals(attributes.lastModifiedTime());
+        }
+
+        public Map<String, String> getChecksums()
+        {
+            return checksums;
+        }
+
+        public String getChecksum(String digestAlgorithm)
+        {
+            return checksums.get(digestAlgorithm);
+        }
+
+        /**
+         * A checksum file written before the current artifact content can't identify it.
+         */
+        public boolean isOutdated(String digestAlgorithm)
+        {
+            return outdatedAlgorithms.contains(digestAlgorithm);
+        }
+
+    }
+
+}
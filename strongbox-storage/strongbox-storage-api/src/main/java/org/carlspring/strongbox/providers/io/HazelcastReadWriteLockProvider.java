@@ -0,0 +1,61 @@
+package org.carlspring.strongbox.providers.io;
+
+import javax.inject.Inject;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.HazelcastInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import ca.thoughtwire.lock.DistributedLockService;
+
+/**
+ * Uses node local locks when the Hazelcast instance can't join a cluster (which is the case for most of the
+ * installations), and distributed locks whenever it can, even while it is the only cluster member.
+ * <br>
+ * The choice is made once, from the join configuration, because the locks which are held while other members join
+ * must already be visible to them.
+ */
+@Component
+public class HazelcastReadWriteLockProvider implements ReadWriteLockProvider
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(HazelcastReadWriteLockProvider.class);
+
+    private final ReadWriteLockProvider localLockProvider = new LocalReadWriteLockProvider();
+
+    private DistributedLockService distributedLockService;
+
+    private boolean clustered;
+
+    @Inject
+    public void setHazelcastInstance(HazelcastInstance hazelcastInstance)
+    {
+        this.distributedLockService = DistributedLockService.newHazelcastLockService(hazelcastInstance);
+        this.clustered = isClusteringEnabled(hazelcastInstance.getConfig().getNetworkConfig().getJoin());
+
+        logger.info("Using [{}] locks.", clustered ? "distributed" : "node local");
+    }
+
+    @Override
+    public ReadWriteLock getReadWriteLock(String name)
+    {
+        if (clustered)
+        {
+            return distributedLockService.getReentrantReadWriteLock(name);
+        }
+
+        return localLockProvider.getReadWriteLock(name);
+    }
+
+    private static boolean isClusteringEnabled(JoinConfig joinConfig)
+    {
+        return joinConfig.getMulticastConfig().isEnabled() ||
+               joinConfig.getTcpIpConfig().isEnabled() ||
+               joinConfig.getAwsConfig().isEnabled() ||
+               joinConfig.getDiscoveryConfig().isEnabled();
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.google.common.collect.MapMaker;
+
+/**
+ * Node local {@link ReadWriteLockProvider} based on {@link ReentrantReadWriteLock}s.
+ * <br>
+ * Locks are kept by name, not striped: {@link RepositoryPathLock} acquires several locks at once, and two names
+ * sharing the same stripe could deadlock. Unused locks are weakly referenced and will be garbage collected.
+ */
+public class LocalReadWriteLockProvider implements ReadWriteLockProvider
+{
+
+    private final ConcurrentMap<String, ReadWriteLock> locks = new MapMaker().weakValues().makeMap();
+
+    @Override
+    public ReadWriteLock getReadWriteLock(String name)
+    {
+        return locks.computeIfAbsent(name, k -> new LocalReadWriteLock());
+    }
+
+    /**
+     * The {@link Lock}s returned here hold a strong reference to this instance, so the lock can't be collected
+     * (and then created again for the same name) while it's still in use.
+     */
+    static class LocalReadWriteLock implements ReadWriteLock
+    {
+
+        private final ReentrantReadWriteLock target = new ReentrantReadWriteLock();
+
+        private final Lock readLock = new LocalLock(target.readLock());
+
+        private final Lock writeLock = new LocalLock(target.writeLock());
+
+        @Override
+        public Lock readLock()
+        {
+            return readLock;
+        }
+
+        @Override
+        public Lock writeLock()
+        {
+            return writeLock;
+        }
+
+        private class LocalLock implements Lock
+        {
+
+            private final Lock target;
+
+            public LocalLock(Lock target)
+            {
+                this.target = target;
+            }
+
+            @Override
+            public void lock()
+            {
+                target.lock();
+            }
+
+            @Override
+            public void lockInterruptibly()
+                throws InterruptedException
+            {
+                target.lockInterruptibly();
+            }
+
+            @Override
+            public boolean tryLock()
+            {
+                return target.tryLock();
+            }
+
+            @Override
+            public boolean tryLock(long time,
+                                   TimeUnit unit)
+                throws InterruptedException
+            {
+                return target.tryLock(time, unit);
+            }
+
+            @Override
+            public void unlock()
+            {
+                target.unlock();
+            }
+
+            @Override
+            public Condition newCondition()
+            {
+                return target.newCondition();
+            }
+
+        }
+
+    }
+
+}
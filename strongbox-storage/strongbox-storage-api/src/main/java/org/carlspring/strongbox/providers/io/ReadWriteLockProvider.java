@@ -0,0 +1,16 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Provides named {@link ReadWriteLock}s, the same name always refers to the same lock.
+ *
+ * @see RepositoryPathLock
+ */
+@FunctionalInterface
+public interface ReadWriteLockProvider
+{
+
+    ReadWriteLock getReadWriteLock(String name);
+
+}
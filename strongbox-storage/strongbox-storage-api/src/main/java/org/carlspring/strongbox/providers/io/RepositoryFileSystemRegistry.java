@@ -4,6 +4,7 @@ import org.carlspring.strongbox.storage.repository.Repository;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -16,6 +17,14 @@ public class RepositoryFileSystemRegistry
 
     private Map<String, LayoutFileSystemFactory> fileSystemFactoryMap = new HashMap<>();
 
+    /**
+     * {@link LayoutFileSystem} instances (along with their file system providers) are stateless, so we
+     * create them once per repository instead of on every path resolution. The cache is dropped with
+     * {@link #invalidate()} every time the configuration changes, because each file system holds the
+     * {@link Repository} it has been created for, and it's only returned for that very {@link Repository} instance.
+     */
+    private Map<String, LayoutFileSystem> fileSystemCache = new ConcurrentHashMap<>();
+
     @Autowired(required = false)
     public void setFyleSystemProviderFactories(Map<String, LayoutFileSystemProviderFactory> factories)
     {
@@ -51,4 +60,30 @@ public class RepositoryFileSystemRegistry
     {
         return fileSystemProviderFactoryMap.get(r.getLayout());
     }
+
+    public LayoutFileSystem lookupRepositoryFileSystem(Repository r)
+    {
+        LayoutFileSystem fileSystem = fileSystemCache.get(getCacheKey(r));
+        if (fileSystem != null && fileSystem.getRepository() == r)
+        {
+            return fileSystem;
+        }
+
+        // A thread still holding the Repository of the previous configuration can cache its file system right after
+        // the invalidate(), so the file systems created for another Repository instance are replaced.
+        return fileSystemCache.compute(getCacheKey(r),
+                                       (k, v) -> v != null && v.getRepository() == r ? v
+                                               : lookupRepositoryFileSystemFactory(r).create(r));
+    }
+
+    public void invalidate()
+    {
+        fileSystemCache.clear();
+    }
+
+    private String getCacheKey(Repository r)
+    {
+        return r.getStorage().getId() + ":" + r.getId();
+    }
+
 }
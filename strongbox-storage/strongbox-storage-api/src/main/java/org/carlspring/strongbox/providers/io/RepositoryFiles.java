@@ -145,7 +145,18 @@ public abstract class RepositoryFiles
     {
         return TempRepositoryPath.of(p);
     }
-    
+
+    public static void invalidateArtifactEntry(RepositoryPath p)
+    {
+        p.invalidateArtifactEntry();
+    }
+
+    public static void deleteTemporary(TempRepositoryPath p)
+        throws IOException
+    {
+        Files.deleteIfExists(p.getTarget());
+    }
+
     public static RepositoryPath trash(RepositoryPath p)
         throws IOException
     {
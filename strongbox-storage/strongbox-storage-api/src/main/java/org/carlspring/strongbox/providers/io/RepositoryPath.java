@@ -61,6 +61,14 @@ public class RepositoryPath
         return artifactEntry;
     }
 
+    /**
+     * Drops the {@link ArtifactEntry} which might have been memoized for this path, so that the next
+     * {@link #getArtifactEntry()} call fetches it again.
+     */
+    protected void invalidateArtifactEntry()
+    {
+    }
+
     public LayoutFileSystem getFileSystem()
     {
         return fileSystem;
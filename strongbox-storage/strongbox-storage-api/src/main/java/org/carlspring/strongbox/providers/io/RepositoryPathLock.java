@@ -3,7 +3,10 @@ package org.carlspring.strongbox.providers.io;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.Date;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
@@ -12,15 +15,13 @@ import javax.inject.Inject;
 
 import org.apache.commons.io.input.ProxyInputStream;
 import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryPolicyEnum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
-import com.hazelcast.core.HazelcastInstance;
-
-import ca.thoughtwire.lock.DistributedLockService;
-
 /**
  * @author Przemyslaw Fusik
  */
@@ -30,42 +31,50 @@ public class RepositoryPathLock
 
     private static final Logger logger = LoggerFactory.getLogger(RepositoryPathLock.class);
 
-    private DistributedLockService lockService;
-
     @Inject
-    public void setHazelcastInstance(HazelcastInstance hazelcastInstance)
-    {
-        lockService = DistributedLockService.newHazelcastLockService(hazelcastInstance);
-    }
+    private ReadWriteLockProvider lockProvider;
 
     public ReadWriteLock lock(final @Nonnull RepositoryPath repositoryPath) throws IOException
     {
         return lock(repositoryPath, null);
     }
 
+    /**
+     * Every path is locked with its own key, so checksums and sibling artifacts can be read concurrently.
+     * <br>
+     * Artifact write locks additionally lock all the ArtifactIdGroup because there can be
+     * `ArtifactEntryServiceImpl.updateLastVersionTag()` operations which affects on other artifacts from group.
+     * <br>
+     * Artifacts of hosted release repositories which don't allow redeployment are never modified in place, so they
+     * are read without distributed lock at all.
+     */
     public ReadWriteLock lock(final @Nonnull RepositoryPath repositoryPath,
                               String id) throws IOException
     {
-        URI lock = getLock(repositoryPath);
+        ReadWriteLock pathLock = getLock(getPathLock(repositoryPath), id);
+        if (!RepositoryFiles.isArtifact(repositoryPath))
+        {
+            return pathLock;
+        }
+
+        ArtifactCoordinates c = RepositoryFiles.readCoordinates(repositoryPath);
+        ReadWriteLock groupLock = getLock(URI.create(c.getId()), id);
+
+        return new ArtifactReadWriteLock(groupLock, pathLock, isImmutable(repositoryPath.getRepository()));
+    }
 
+    private ReadWriteLock getLock(URI lock,
+                                  String id)
+    {
         String lockName = Optional.ofNullable(id)
                                   .map(p -> String.format("%s?%s", lock, p))
                                   .orElseGet(() -> lock.toString());
 
-        return lockService.getReentrantReadWriteLock(lockName);
+        return lockProvider.getReadWriteLock(lockName);
     }
 
-    private URI getLock(final @Nonnull RepositoryPath repositoryPath) throws IOException
+    private URI getPathLock(final @Nonnull RepositoryPath repositoryPath)
     {
-        if (RepositoryFiles.isArtifact(repositoryPath))
-        {
-            ArtifactCoordinates c = RepositoryFiles.readCoordinates(repositoryPath);
-            // We should lock all the ArtifactIdGroup because there can be
-            // `ArtifactEntryServiceImpl.updateLastVersionTag()` operations
-            // which affetcs on other artifacts from group.
-            return URI.create(c.getId());
-        }
-
         final URI lock = repositoryPath.toUri();
 
         Assert.isTrue(lock.isAbsolute(), String.format("Unable to lock relative path %s", lock));
@@ -73,6 +82,13 @@ public class RepositoryPathLock
         return lock;
     }
 
+    private boolean isImmutable(Repository repository)
+    {
+        return repository.isHostedRepository()
+                && RepositoryPolicyEnum.RELEASE.getPolicy().equals(repository.getPolicy())
+                && !repository.allowsRedeployment();
+    }
+
     public InputStream lockInputStream(RepositoryPath repositoryPath,
                                        StreamSupplier<? extends InputStream> streamSuplier)
         throws IOException
@@ -131,6 +147,258 @@ public class RepositoryPathLock
         };
     }
 
+    private static class ArtifactReadWriteLock implements ReadWriteLock
+    {
+
+        private final Lock readLock;
+
+        private final Lock writeLock;
+
+        public ArtifactReadWriteLock(ReadWriteLock groupLock,
+                                     ReadWriteLock pathLock,
+                                     boolean immutable)
+        {
+            this.readLock = immutable ? new NoopLock() : pathLock.readLock();
+            this.writeLock = new ArtifactWriteLock(groupLock.writeLock(), pathLock.writeLock());
+        }
+
+        @Override
+        public Lock readLock()
+        {
+            return readLock;
+        }
+
+        @Override
+        public Lock writeLock()
+        {
+            return writeLock;
+        }
+
+    }
+
+    /**
+     * Locks the ArtifactIdGroup first and then the artifact path itself, unlocks in reverse order.
+     */
+    private static class ArtifactWriteLock implements Lock
+    {
+
+        private final Lock groupLock;
+
+        private final Lock pathLock;
+
+        public ArtifactWriteLock(Lock groupLock,
+                                 Lock pathLock)
+        {
+            this.groupLock = groupLock;
+            this.pathLock = pathLock;
+        }
+
+        @Override
+        public void lock()
+        {
+            groupLock.lock();
+            try
+            {
+                pathLock.lock();
+            }
+            catch (RuntimeException e)
+            {
+                groupLock.unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public void lockInterruptibly()
+            throws InterruptedException
+        {
+            groupLock.lockInterruptibly();
+            try
+            {
+                pathLock.lockInterruptibly();
+            }
+            catch (InterruptedException | RuntimeException e)
+            {
+                groupLock.unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean tryLock()
+        {
+            if (!groupLock.tryLock())
+            {
+                return false;
+            }
+            if (pathLock.tryLock())
+            {
+                return true;
+            }
+
+            groupLock.unlock();
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(long time,
+                               TimeUnit unit)
+            throws InterruptedException
+        {
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            if (!groupLock.tryLock(time, unit))
+            {
+                return false;
+            }
+            try
+            {
+                if (pathLock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS))
+                {
+                    return true;
+                }
+            }
+            catch (InterruptedException | RuntimeException e)
+            {
+                groupLock.unlock();
+                throw e;
+            }
+
+            groupLock.unlock();
+            return false;
+        }
+
+        @Override
+        public void unlock()
+        {
+            try
+            {
+                pathLock.unlock();
+            }
+            finally
+            {
+                groupLock.unlock();
+            }
+        }
+
+        /**
+         * The condition is bound to the path lock, so awaiting it releases the path only, and the ArtifactIdGroup
+         * stays locked.
+         */
+        @Override
+        public Condition newCondition()
+        {
+            return pathLock.newCondition();
+        }
+
+    }
+
+    private static class NoopLock implements Lock
+    {
+
+        @Override
+        public void lock()
+        {
+        }
+
+        @Override
+        public void lockInterruptibly()
+        {
+        }
+
+        @Override
+        public boolean tryLock()
+        {
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time,
+                               TimeUnit unit)
+        {
+            return true;
+        }
+
+        @Override
+        public void unlock()
+        {
+        }
+
+        @Override
+        public Condition newCondition()
+        {
+            return new NoopCondition();
+        }
+
+    }
+
+    /**
+     * Nothing is locked, so there is nothing to wait for, and the waits return right away as if signalled. The callers
+     * check their own state after every wakeup anyway, as spurious wakeups are allowed.
+     */
+    private static class NoopCondition implements Condition
+    {
+
+        @Override
+        public void await()
+            throws InterruptedException
+        {
+            checkInterrupted();
+        }
+
+        @Override
+        public void awaitUninterruptibly()
+        {
+        }
+
+        @Override
+        public long awaitNanos(long nanosTimeout)
+            throws InterruptedException
+        {
+            checkInterrupted();
+
+            return nanosTimeout;
+        }
+
+        @Override
+        public boolean await(long time,
+                             TimeUnit unit)
+            throws InterruptedException
+        {
+            checkInterrupted();
+
+            return true;
+        }
+
+        @Override
+        public boolean awaitUntil(Date deadline)
+            throws InterruptedException
+        {
+            checkInterrupted();
+
+            return true;
+        }
+
+        @Override
+        public void signal()
+        {
+        }
+
+        @Override
+        public void signalAll()
+        {
+        }
+
+        private void checkInterrupted()
+            throws InterruptedException
+        {
+            if (Thread.interrupted())
+            {
+                throw new InterruptedException();
+            }
+        }
+
+    }
+
     @FunctionalInterface
     public interface StreamSupplier<T>
     {
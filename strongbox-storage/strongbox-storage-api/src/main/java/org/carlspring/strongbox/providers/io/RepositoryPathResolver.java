@@ -3,6 +3,7 @@ package org.carlspring.strongbox.providers.io;
 import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.RemoteArtifactEntry;
 import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
@@ -33,9 +34,7 @@ public class RepositoryPathResolver
     {
         Objects.requireNonNull(repository, "Repository should be provided");
 
-        LayoutFileSystemFactory fileSystemFactory = fileSystemRegistry.lookupRepositoryFileSystemFactory(repository);
-
-        return fileSystemFactory.create(repository).getRootDirectory();
+        return fileSystemRegistry.lookupRepositoryFileSystem(repository).getRootDirectory();
     }
 
     public RepositoryPath resolve(String storageId,
@@ -80,9 +79,15 @@ public class RepositoryPathResolver
         return new CachedRepositoryPath(repositoryPath.resolve(path));
     }
     
+    /**
+     * The {@link ArtifactEntry} is memoized for the lifetime of the path instance, which is usually a single
+     * request, and is dropped once the artifact has been written or deleted through this path.
+     */
     private class CachedRepositoryPath extends RepositoryPath
     {
 
+        private volatile ArtifactEntry cachedArtifactEntry;
+
         private CachedRepositoryPath(RepositoryPath target)
         {
             super(target.getTarget(), target.getFileSystem());
@@ -92,14 +97,29 @@ public class RepositoryPathResolver
         public ArtifactEntry getArtifactEntry()
             throws IOException
         {
+            ArtifactEntry result = cachedArtifactEntry;
+            if (result != null)
+            {
+                return result;
+            }
+
             if (this.getRepository().isGroupRepository() || !RepositoryFiles.isArtifact(this))
             {
                 return null;
             }
 
-            return artifactEntryService.findOneArtifact(getRepository().getStorage().getId(),
-                                                        getRepository().getId(),
-                                                        RepositoryFiles.relativizePath(this));
+            result = artifactEntryService.findOneArtifact(getRepository().getStorage().getId(),
+                                                          getRepository().getId(),
+                                                          RepositoryFiles.relativizePath(this));
+
+            // Entries of the artifacts which are not stored yet are not memoized, because the artifact can be
+            // stored by another request at any time.
+            if (result != null && !(result instanceof RemoteArtifactEntry && !((RemoteArtifactEntry) result).getIsCached()))
+            {
+                cachedArtifactEntry = result;
+            }
+
+            return result;
             // TODO: we should check this restriction 
 //            if (Files.exists(this) && !Files.isDirectory(this) && RepositoryFiles.isArtifact(this) && result == null)
 //            {
@@ -109,6 +129,12 @@ public class RepositoryPathResolver
 
         }
 
+        @Override
+        protected void invalidateArtifactEntry()
+        {
+            cachedArtifactEntry = null;
+        }
+
     }
 
 }
@@ -3,7 +3,10 @@ package org.carlspring.strongbox.providers.io;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -58,6 +61,13 @@ public abstract class RepositoryStreamSupport implements RepositoryStreamCallbac
             return;
         }
 
+        if (!ctx.isPathLockRequired())
+        {
+            doOpen(ctx);
+
+            return;
+        }
+
         RepositoryPath path = (RepositoryPath) ctx.getPath();
         logger.debug(String.format("Locking [%s]", path));
         
@@ -110,7 +120,10 @@ public abstract class RepositoryStreamSupport implements RepositoryStreamCallbac
         } 
         finally
         {
-            ctx.getLock().unlock();
+            if (ctx.getLock() != null)
+            {
+                ctx.getLock().unlock();
+            }
             clearContext();
         }
     }
@@ -203,6 +216,36 @@ public abstract class RepositoryStreamSupport implements RepositoryStreamCallbac
             open();
         }
 
+        /**
+         * Opens this stream as if it was read, and returns the channel of the file it reads, so that parts of the
+         * content can be read at their positions.
+         * <br>
+         * The channel should be closed before this stream, which still holds the read lock of the path and fires
+         * the read events.
+         *
+         * @return the file channel, or {@code null} if the path is not stored in the default file system or this
+         *         stream doesn't read the path itself
+         */
+        public FileChannel openFileChannel()
+            throws IOException
+        {
+            open();
+
+            RepositoryStreamContext ctx = getContext();
+            if (!ctx.isPathLockRequired())
+            {
+                return null;
+            }
+
+            Path target = ((RepositoryPath) ctx.getPath()).getTarget();
+            if (target.getFileSystem() != FileSystems.getDefault())
+            {
+                return null;
+            }
+
+            return FileChannel.open(target, StandardOpenOption.READ);
+        }
+
         @Override
         public void close()
             throws IOException
@@ -1,5 +1,6 @@
 package org.carlspring.strongbox.providers.io;
 
+import org.carlspring.strongbox.providers.io.ChecksumValueCache.ChecksumValues;
 import org.carlspring.strongbox.storage.repository.Repository;
 
 import javax.inject.Inject;
@@ -7,6 +8,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.*;
@@ -46,6 +48,9 @@ public abstract class StorageFileSystemProvider
 
     @Inject
     private RepositoryPathLock repositoryPathLock;
+
+    @Inject
+    private ChecksumValueCache checksumValueCache;
     
     public StorageFileSystemProvider(FileSystemProvider target)
     {
@@ -252,10 +257,64 @@ public abstract class StorageFileSystemProvider
         return result;
     }
 
+    /**
+     * Provides the values of the stored checksum files of the artifact, without reading them again as long as the
+     * artifact and its checksum files are not changed.
+     */
+    public ChecksumValues getChecksumValues(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        BasicFileAttributes attributes = Files.readAttributes(repositoryPath.getTarget(), BasicFileAttributes.class);
+
+        return checksumValueCache.get(repositoryPath, attributes, () -> readChecksumValues(repositoryPath, attributes));
+    }
+
+    private ChecksumValues readChecksumValues(RepositoryPath repositoryPath,
+                                              BasicFileAttributes attributes)
+        throws IOException
+    {
+        Map<String, String> checksums = new LinkedHashMap<>();
+        Set<String> outdatedAlgorithms = new HashSet<>();
+        for (Map.Entry<String, RepositoryPath> e : resolveChecksumPathMap(repositoryPath).entrySet())
+        {
+            Path checksumPath = e.getValue().getTarget();
+
+            BasicFileAttributes checksumAttributes;
+            String checksum;
+            try
+            {
+                checksumAttributes = Files.readAttributes(checksumPath, BasicFileAttributes.class);
+                checksum = new String(Files.readAllBytes(checksumPath), StandardCharsets.UTF_8).trim();
+            }
+            catch (NoSuchFileException ex)
+            {
+                continue;
+            }
+
+            // Only the first line holds the checksum, some tools append the file name in the following ones.
+            int lineEnd = checksum.indexOf('\n');
+            checksum = (lineEnd < 0 ? checksum : checksum.substring(0, lineEnd)).trim();
+            if (checksum.isEmpty())
+            {
+                continue;
+            }
+
+            checksums.put(e.getKey(), checksum);
+            if (checksumAttributes.lastModifiedTime().compareTo(attributes.lastModifiedTime()) < 0)
+            {
+                outdatedAlgorithms.add(e.getKey());
+            }
+        }
+
+        return new ChecksumValues(attributes, checksums, outdatedAlgorithms);
+    }
+
     protected void doDeletePath(RepositoryPath repositoryPath,
                                 boolean force)
         throws IOException
     {
+        checksumValueCache.invalidate(repositoryPath);
+
         Repository repository = repositoryPath.getFileSystem().getRepository();
         if (!repository.isTrashEnabled())
         {
@@ -320,6 +379,7 @@ public abstract class StorageFileSystemProvider
         }
 
         Files.move(tempPath.getTarget(), path.getTarget(), StandardCopyOption.REPLACE_EXISTING);
+        checksumValueCache.invalidate(path);
 
         //path.artifactEntry = tempPath.artifactEntry;
 
@@ -411,6 +471,7 @@ public abstract class StorageFileSystemProvider
         throws IOException
     {
         getTarget().copy(unwrap(source), unwrap(target), options);
+        invalidateChecksumValues(target);
     }
 
     public void move(Path source,
@@ -419,6 +480,16 @@ public abstract class StorageFileSystemProvider
         throws IOException
     {
         getTarget().move(unwrap(source), unwrap(target), options);
+        invalidateChecksumValues(source);
+        invalidateChecksumValues(target);
+    }
+
+    private void invalidateChecksumValues(Path path)
+    {
+        if (path instanceof RepositoryPath)
+        {
+            checksumValueCache.invalidate((RepositoryPath) path);
+        }
     }
 
     public boolean isSameFile(Path path,
@@ -605,11 +676,17 @@ public abstract class StorageFileSystemProvider
     }
 
     
-    private class TempOutputStream extends ProxyOutputStream
+    /**
+     * Writes into the {@link TempRepositoryPath} and moves it into the target path on close, unless the store has been
+     * aborted.
+     */
+    public class TempOutputStream extends ProxyOutputStream
     {
 
         private TempRepositoryPath path;
 
+        private boolean aborted;
+
         public TempOutputStream(TempRepositoryPath path,
                                 OpenOption... options)
             throws IOException
@@ -627,7 +704,10 @@ public abstract class StorageFileSystemProvider
 
             try
             {
-                moveFromTemporaryDirectory(path);
+                if (!aborted)
+                {
+                    moveFromTemporaryDirectory(path);
+                }
             } 
             finally
             {
@@ -638,6 +718,14 @@ public abstract class StorageFileSystemProvider
             }
         }
 
+        /**
+         * The content written so far is dropped on close, and the target path is left as it was.
+         */
+        public void abort()
+        {
+            aborted = true;
+        }
+
     }
     
 }
@@ -7,6 +7,7 @@ import org.carlspring.strongbox.event.repository.RepositoryEventListenerRegistry
 import org.carlspring.strongbox.io.ByteRangeInputStream;
 import org.carlspring.strongbox.io.LayoutInputStream;
 import org.carlspring.strongbox.io.LayoutOutputStream;
+import org.carlspring.strongbox.providers.io.ChecksumValueCache.ChecksumValues;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributeType;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
@@ -14,7 +15,6 @@ import org.carlspring.strongbox.providers.io.StorageFileSystemProvider;
 import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
-import org.carlspring.strongbox.util.MessageDigestUtils;
 
 import javax.inject.Inject;
 import java.io.FileNotFoundException;
@@ -26,10 +26,14 @@ import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.spi.FileSystemProvider;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.NullOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,6 +69,21 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
     public LayoutInputStream newInputStream(Path path,
                                               OpenOption... options)
         throws IOException
+    {
+        InputStream is = newByteRangeInputStream(path, options);
+        try
+        {
+            return decorateStream((RepositoryPath) path, is);
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IOException(e);
+        }
+    }
+
+    private ByteRangeInputStream newByteRangeInputStream(Path path,
+                                                         OpenOption... options)
+        throws IOException
     {
         if (!Files.exists(path))
         {
@@ -89,22 +108,18 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
         bris.setReloadableInputStreamHandler(new FSReloadableInputStreamHandler(path.toFile()));
         bris.setLength(Files.size(path));
         
-        try
-        {
-            return decorateStream((RepositoryPath) path, bris);
-        }
-        catch (NoSuchAlgorithmException e)
-        {
-            throw new IOException(e);
-        }
+        return bris;
     }
 
+    /**
+     * The checksums stored next to the artifact are trusted, so the stream digests only the algorithms which have no
+     * stored checksum.
+     */
     protected LayoutInputStream decorateStream(RepositoryPath path,
                                                InputStream is)
             throws NoSuchAlgorithmException, IOException
     {
-        Set<String> digestAlgorithmSet = path.getFileSystem().getDigestAlgorithmSet();
-        LayoutInputStream result = new LayoutInputStream(is, digestAlgorithmSet);
+        LayoutInputStream result = new LayoutInputStream(is, Collections.emptySet());
         
         // Add digest algorithm only if it is not a Checksum (we don't need a Checksum of Checksum).
         if (Boolean.TRUE.equals(RepositoryFiles.isChecksum(path)))
@@ -112,46 +127,32 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
             return result;
         }
         
-        digestAlgorithmSet.stream().forEach(a -> {
-            String checksum = null;
-            try
-            {
-                checksum = getChecksum(path, result, a);
-            }
-            catch (IOException e)
-            {
-                logger.error(String.format("Failed to get checksum for [%s]", path), e);
-            }
+        ChecksumValues checksumValues = null;
+        try
+        {
+            checksumValues = getChecksumValues(path);
+        }
+        catch (IOException e)
+        {
+            logger.error(String.format("Failed to get checksum for [%s]", path), e);
+        }
+
+        for (String digestAlgorithm : path.getFileSystem().getDigestAlgorithmSet())
+        {
+            String checksum = checksumValues == null ? null : checksumValues.getChecksum(digestAlgorithm);
             if (checksum == null)
             {
-                return;
+                result.addAlgorithm(digestAlgorithm);
+
+                continue;
             }
 
-            result.getHexDigests().put(a, checksum);
-        });
+            result.getHexDigests().put(digestAlgorithm, checksum);
+        }
         
         return result;
     }
 
-    private String getChecksum(RepositoryPath path,
-                               LayoutInputStream is,
-                               String digestAlgorithm) throws IOException
-    {
-        RepositoryPath checksumPath = getChecksumPath(path, digestAlgorithm);
-        
-        String checksum = null;
-        if (Files.exists(checksumPath) && Files.size(checksumPath) != 0)
-        {
-            checksum = MessageDigestUtils.readChecksumFile(Files.newInputStream(checksumPath));
-        }
-        else
-        {
-            checksum = is.getMessageDigestAsHexadecimalString(digestAlgorithm);
-        }
-
-        return checksum;
-    }
-
     public RepositoryPath getChecksumPath(RepositoryPath path,
                                           String digestAlgorithm)
     {
@@ -244,28 +245,43 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
                               boolean force)
         throws IOException
     {
-        try (LayoutInputStream is = newInputStream(path))
+        Set<String> digestAlgorithmSet = new LinkedHashSet<>();
+        for (String digestAlgorithm : path.getFileSystem().getDigestAlgorithmSet())
         {
-            Set<String> digestAlgorithmSet = path.getFileSystem().getDigestAlgorithmSet();
-            digestAlgorithmSet.stream()
-                              .forEach(p ->
-                                       {
-                                           String checksum = is.getHexDigests().get(p);
-                                           RepositoryPath checksumPath = getChecksumPath(path, p);
-                                           if (Files.exists(checksumPath) && !force)
-                                           {
-                                               return;
-                                           }
-                                           try
-                                           {
-                                               Files.write(checksumPath, checksum.getBytes());
-                                           }
-                                           catch (IOException e)
-                                           {
-                                               logger.error(String.format("Failed to write checksum for [%s]",
-                                                                          checksumPath.toString()), e);
-                                           }
-                                       });
+            if (force || !Files.exists(getChecksumPath(path, digestAlgorithm)))
+            {
+                digestAlgorithmSet.add(digestAlgorithm);
+            }
+        }
+
+        if (digestAlgorithmSet.isEmpty())
+        {
+            return;
+        }
+
+        // The stored checksums are not trusted here, so the content is digested for every algorithm to be written.
+        try (LayoutInputStream is = new LayoutInputStream(newByteRangeInputStream(path), digestAlgorithmSet))
+        {
+            IOUtils.copy(is, NullOutputStream.NULL_OUTPUT_STREAM);
+
+            for (String digestAlgorithm : digestAlgorithmSet)
+            {
+                RepositoryPath checksumPath = getChecksumPath(path, digestAlgorithm);
+                String checksum = is.getMessageDigestAsHexadecimalString(digestAlgorithm);
+                try
+                {
+                    Files.write(checksumPath, checksum.getBytes());
+                }
+                catch (IOException e)
+                {
+                    logger.error(String.format("Failed to write checksum for [%s]",
+                                               checksumPath.toString()), e);
+                }
+            }
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IOException(e);
         }
     }
 
@@ -306,6 +322,7 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
         if (artifactEntry != null)
         {
             artifactEntryService.delete(artifactEntry);
+            RepositoryFiles.invalidateArtifactEntry(repositoryPath);
         }
         
         super.doDeletePath(repositoryPath, force);
@@ -2,31 +2,170 @@ package org.carlspring.strongbox.providers.repository;
 
 import java.io.IOException;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
 
-import org.carlspring.strongbox.artifact.AsyncArtifactEntryHandler;
 import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.event.AsyncEventListener;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
 import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Buffers the downloads of every {@link ArtifactEntry} in memory and flushes
+ * them periodically, so that a hot artifact gets a single `downloadCount`
+ * increment per flush interval instead of a record update per download.
+ * <br>
+ * The flush interval, in seconds, is set with the `strongbox.download.statistics.flushInterval` property.
+ * The downloads buffered since the last flush are lost if the instance crashes.
+ */
 @Component
-public class ArtifactDownloadingEventHandler extends AsyncArtifactEntryHandler
+public class ArtifactDownloadingEventHandler implements InitializingBean, DisposableBean
 {
 
-    public ArtifactDownloadingEventHandler()
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactDownloadingEventHandler.class);
+
+    @Value("${strongbox.download.statistics.flushInterval:5}")
+    private int flushIntervalSeconds;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    private final ConcurrentMap<String, DownloadStatistics> buffer = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet()
     {
-        super(ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_DOWNLOADING);
+        executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("download-statistics-"));
+        executor.scheduleWithFixedDelay(this::flush,
+                                        flushIntervalSeconds,
+                                        flushIntervalSeconds,
+                                        TimeUnit.SECONDS);
     }
 
     @Override
-    protected ArtifactEntry handleEvent(RepositoryPath repositoryPath) throws IOException
+    public void destroy()
     {
+        executor.shutdown();
+
+        flush();
+    }
+
+    @AsyncEventListener
+    public void handleEvent(final ArtifactEvent<RepositoryPath> event)
+        throws IOException
+    {
+        if (ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_DOWNLOADING.getType() != event.getType())
+        {
+            return;
+        }
+
+        RepositoryPath repositoryPath = (RepositoryPath) event.getPath();
+        if (!RepositoryFiles.isArtifact(repositoryPath))
+        {
+            return;
+        }
+
         ArtifactEntry artifactEntry = repositoryPath.getArtifactEntry();
-        
-        artifactEntry.setDownloadCount(artifactEntry.getDownloadCount() + 1);
-        artifactEntry.setLastUsed(new Date());
+        if (artifactEntry == null || artifactEntry.getUuid() == null)
+        {
+            logger.warn(String.format("No [%s] found for downloaded path [%s].",
+                                      ArtifactEntry.class.getSimpleName(),
+                                      repositoryPath));
+
+            return;
+        }
+
+        buffer.merge(artifactEntry.getUuid(), new DownloadStatistics(1, new Date()), DownloadStatistics::merge);
+    }
+
+    /**
+     * Writes the buffered downloads into the database within single transaction. If the transaction fails, the
+     * downloads are returned into the buffer to be written with the next flush.
+     */
+    public synchronized void flush()
+    {
+        Map<String, DownloadStatistics> batch = new HashMap<>();
+        for (String uuid : buffer.keySet())
+        {
+            DownloadStatistics statistics = buffer.remove(uuid);
+            if (statistics != null)
+            {
+                batch.put(uuid, statistics);
+            }
+        }
+
+        if (batch.isEmpty())
+        {
+            return;
+        }
+
+        try
+        {
+            new TransactionTemplate(transactionManager).execute(t -> {
+                batch.forEach((uuid,
+                               statistics) -> artifactEntryService.updateDownloadStatistics(uuid,
+                                                                                            statistics.downloads,
+                                                                                            statistics.lastUsed));
+
+                return null;
+            });
+
+            logger.debug(String.format("Flushed download statistics of [%s] artifacts.", batch.size()));
+        }
+        catch (Exception e)
+        {
+            logger.error(String.format("Failed to flush download statistics of [%s] artifacts.", batch.size()), e);
+
+            batch.forEach((uuid,
+                           statistics) -> buffer.merge(uuid, statistics, DownloadStatistics::merge));
+        }
+    }
+
+    private static final class DownloadStatistics
+    {
+
+        private final int downloads;
+
+        private final Date lastUsed;
+
+        private DownloadStatistics(int downloads,
+                                   Date lastUsed)
+        {
+            this.downloads = downloads;
+            this.lastUsed = lastUsed;
+        }
+
+        private static DownloadStatistics merge(DownloadStatistics s1,
+                                                DownloadStatistics s2)
+        {
+            return new DownloadStatistics(s1.downloads + s2.downloads,
+                                          s1.lastUsed.after(s2.lastUsed) ? s1.lastUsed : s2.lastUsed);
+        }
 
-        return artifactEntry;
     }
 
 }
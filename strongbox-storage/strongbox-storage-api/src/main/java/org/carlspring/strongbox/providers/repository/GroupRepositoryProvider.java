@@ -3,15 +3,22 @@ package org.carlspring.strongbox.providers.repository;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -34,16 +41,29 @@ import org.carlspring.strongbox.providers.repository.group.GroupRepositorySetCol
 import org.carlspring.strongbox.services.support.ArtifactRoutingRulesChecker;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteRepositoryAlivenessCacheManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 /**
+ * Resolves the paths from the group members in the order of the group.
+ * <br>
+ * With {@code strongbox.group.parallel.resolution} enabled, the hosted and the nested group members are queried
+ * first, and the proxy members which precede the first hit are then queried in parallel, on a pool of
+ * {@code strongbox.group.parallel.resolution.threads}, so that a miss doesn't cost the sum of the remote latencies.
+ * The result is still the one of the first member in the group order which has the path. Note that the proxy members
+ * may download the path even if a member before them has it.
+ *
  * @author carlspring
  */
 @Component
-public class GroupRepositoryProvider extends AbstractRepositoryProvider
+public class GroupRepositoryProvider extends AbstractRepositoryProvider implements InitializingBean, DisposableBean
 {
 
     private static final Logger logger = LoggerFactory.getLogger(GroupRepositoryProvider.class);
@@ -58,13 +78,55 @@ public class GroupRepositoryProvider extends AbstractRepositoryProvider
 
     @Inject
     private GroupRepositorySetCollector groupRepositorySetCollector;
+
+    @Inject
+    private RepositoryPathNotFoundCacheManager repositoryPathNotFoundCacheManager;
+
+    @Inject
+    private RemoteRepositoryAlivenessCacheManager remoteRepositoryAlivenessCacheManager;
     
     @PersistenceContext
     private EntityManager entityManager;
     
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
-    
+
+    @Value("${strongbox.group.parallel.resolution:false}")
+    private boolean parallelResolution;
+
+    @Value("${strongbox.group.parallel.resolution.threads:8}")
+    private int parallelResolutionThreads;
+
+    private ThreadPoolExecutor proxyMemberExecutor;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        if (!parallelResolution)
+        {
+            return;
+        }
+
+        // Once the pool and its queue are full, the members are queried by the calling thread.
+        proxyMemberExecutor = new ThreadPoolExecutor(parallelResolutionThreads,
+                                                     parallelResolutionThreads,
+                                                     60,
+                                                     TimeUnit.SECONDS,
+                                                     new ArrayBlockingQueue<>(parallelResolutionThreads * 16),
+                                                     new CustomizableThreadFactory("group-member-resolution-"),
+                                                     new ThreadPoolExecutor.CallerRunsPolicy());
+        proxyMemberExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void destroy()
+    {
+        if (proxyMemberExecutor != null)
+        {
+            proxyMemberExecutor.shutdownNow();
+        }
+    }
+
     @Override
     public String getAlias()
     {
@@ -88,15 +150,58 @@ public class GroupRepositoryProvider extends AbstractRepositoryProvider
         {
             return result;
         }
+
+        RepositoryPathNotFoundCacheManager.Lookup lookup = repositoryPathNotFoundCacheManager.lookup(repositoryPath);
+        if (lookup.isNotFound())
+        {
+            return null;
+        }
         
-        return resolvePathTraversal(repositoryPath);
+        result = resolvePathTraversal(repositoryPath);
+
+        // The paths missed while a proxy member's remote repository is down are not remembered, as the outage is not
+        // a miss.
+        if (result == null && !hasUnavailableProxyMember(repositoryPath))
+        {
+            repositoryPathNotFoundCacheManager.putNotFound(lookup);
+        }
+
+        return result;
     }
     
     protected RepositoryPath resolvePathTraversal(RepositoryPath repositoryPath) throws IOException
+    {
+        List<RepositoryPath> memberPaths = resolveMemberPaths(repositoryPath);
+        if (proxyMemberExecutor != null)
+        {
+            return resolvePathInParallel(memberPaths);
+        }
+
+        for (RepositoryPath memberPath : memberPaths)
+        {
+            RepositoryPath result = resolvePathFromGroupMemberOrTraverse(memberPath);
+            if (result == null)
+            {
+                continue;
+            }
+            
+            logger.debug(String.format("Located artifact: [%s]", result));
+            
+            return result;
+        }
+        return null;
+    }
+
+    /**
+     * @return the paths within the group members which are in service and not denied by the routing rules, in the
+     *         order of the group
+     */
+    private List<RepositoryPath> resolveMemberPaths(RepositoryPath repositoryPath) throws IOException
     {
         Repository groupRepository = repositoryPath.getRepository();
         Storage storage = groupRepository.getStorage();
-        
+
+        List<RepositoryPath> result = new ArrayList<>();
         for (String storageAndRepositoryId : groupRepository.getGroupRepositories().keySet())
         {
             String sId = configurationManager.getStorageId(storage, storageAndRepositoryId);
@@ -108,23 +213,109 @@ public class GroupRepositoryProvider extends AbstractRepositoryProvider
                 continue;
             }
             
-            RepositoryPath result = repositoryPathResolver.resolve(r, repositoryPath);
-            if (artifactRoutingRulesChecker.isDenied(groupRepository.getId(), result))
+            RepositoryPath memberPath = repositoryPathResolver.resolve(r, repositoryPath);
+            if (artifactRoutingRulesChecker.isDenied(groupRepository.getId(), memberPath))
             {
                 continue;
             }
-            
-            result = resolvePathFromGroupMemberOrTraverse(result);
-            if (result == null)
+
+            result.add(memberPath);
+        }
+        return result;
+    }
+
+    protected RepositoryPath resolvePathInParallel(List<RepositoryPath> memberPaths) throws IOException
+    {
+        int localResultIndex = memberPaths.size();
+        RepositoryPath localResult = null;
+        for (int i = 0; i < memberPaths.size(); i++)
+        {
+            RepositoryPath memberPath = memberPaths.get(i);
+            if (memberPath.getRepository().isProxyRepository())
             {
                 continue;
             }
-            
-            logger.debug(String.format("Located artifact: [%s]", result));
-            
-            return result;
+
+            localResult = resolvePathFromGroupMemberOrTraverse(memberPath);
+            if (localResult != null)
+            {
+                localResultIndex = i;
+                break;
+            }
         }
-        return null;
+
+        // Only the proxy members which precede the local hit can take precedence over it.
+        List<Future<RepositoryPath>> proxyResults = new ArrayList<>();
+        for (RepositoryPath memberPath : memberPaths.subList(0, localResultIndex))
+        {
+            if (memberPath.getRepository().isProxyRepository())
+            {
+                proxyResults.add(proxyMemberExecutor.submit(() -> resolvePathFromGroupMemberOrTraverse(memberPath)));
+            }
+        }
+
+        try
+        {
+            // The results are awaited in the group order, and the first hit cancels the members after it which
+            // haven't started yet. The running ones are left to complete, so that their downloads aren't broken.
+            for (Future<RepositoryPath> proxyResult : proxyResults)
+            {
+                RepositoryPath result = proxyResult.get();
+                if (result != null)
+                {
+                    logger.debug(String.format("Located artifact: [%s]", result));
+
+                    return result;
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException(String.format("Interrupted while resolving [%s]", memberPaths));
+        }
+        catch (ExecutionException e)
+        {
+            throw new IOException(e.getCause());
+        }
+        finally
+        {
+            proxyResults.forEach(proxyResult -> proxyResult.cancel(false));
+        }
+
+        if (localResult != null)
+        {
+            logger.debug(String.format("Located artifact: [%s]", localResult));
+        }
+
+        return localResult;
+    }
+
+    /**
+     * @return whether any of the proxy members consulted for the path, within the nested groups too, has its remote
+     *         repository down
+     */
+    private boolean hasUnavailableProxyMember(RepositoryPath repositoryPath) throws IOException
+    {
+        for (RepositoryPath memberPath : resolveMemberPaths(repositoryPath))
+        {
+            Repository repository = memberPath.getRepository();
+            if (getAlias().equals(repository.getType()))
+            {
+                if (hasUnavailableProxyMember(memberPath))
+                {
+                    return true;
+                }
+            }
+            else if (repository.isProxyRepository() &&
+                     !remoteRepositoryAlivenessCacheManager.isAlive(repository.getRemoteRepository()))
+            {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     private RepositoryPath resolvePathDirectlyFromGroupPathIfPossible(final RepositoryPath artifactPath)
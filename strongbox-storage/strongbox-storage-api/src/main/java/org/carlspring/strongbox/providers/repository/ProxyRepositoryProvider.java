@@ -5,6 +5,7 @@ import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.RemoteArtifactEntry;
+import org.carlspring.strongbox.io.RepositoryStreamReadContext;
 import org.carlspring.strongbox.providers.io.AbstractRepositoryProvider;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
@@ -12,6 +13,8 @@ import org.carlspring.strongbox.providers.io.RepositoryPathLock;
 import org.carlspring.strongbox.providers.repository.event.ProxyRepositoryPathExpiredEvent;
 import org.carlspring.strongbox.providers.repository.event.RemoteRepositorySearchEvent;
 import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactResolver;
+import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryFetchRegistry;
+import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteRepositoryAlivenessCacheManager;
 
 import javax.inject.Inject;
 import java.io.IOException;
@@ -43,18 +46,45 @@ public class ProxyRepositoryProvider
     @Inject
     private ProxyRepositoryArtifactResolver proxyRepositoryArtifactResolver;
 
+    @Inject
+    private ProxyRepositoryFetchRegistry proxyRepositoryFetchRegistry;
+
     @Inject
     private HostedRepositoryProvider hostedRepositoryProvider;
 
     @Inject
     private RepositoryPathLock repositoryPathLock;
 
+    @Inject
+    private RepositoryPathNotFoundCacheManager repositoryPathNotFoundCacheManager;
+
+    @Inject
+    private RemoteRepositoryAlivenessCacheManager remoteRepositoryAlivenessCacheManager;
+
     @Override
     public String getAlias()
     {
         return ALIAS;
     }
 
+    @Override
+    public RepositoryInputStream getInputStream(Path path)
+        throws IOException
+    {
+        InputStream is = path == null ? null : proxyRepositoryArtifactResolver.getInputStream((RepositoryPath) path);
+        if (is == null)
+        {
+            return super.getInputStream(path);
+        }
+
+        // The readers of the download in progress read its spool file, not the path, so they don't hold the lock of
+        // the path, which would make the download wait for the slowest of them before storing the artifact.
+        RepositoryInputStream result = decorate((RepositoryPath) path, is);
+        getContext().setPathLockRequired(false);
+
+        return result;
+    }
+
     @Override
     protected InputStream getInputStreamInternal(RepositoryPath path)
         throws IOException
@@ -62,19 +92,55 @@ public class ProxyRepositoryProvider
         return hostedRepositoryProvider.getInputStreamInternal(path);
     }
 
+    @Override
+    public void onBeforeRead(RepositoryStreamReadContext ctx)
+        throws IOException
+    {
+        // The artifact which is still being downloaded has no ArtifactEntry yet.
+        if (proxyRepositoryArtifactResolver.isDownloading((RepositoryPath) ctx.getPath()))
+        {
+            return;
+        }
+
+        super.onBeforeRead(ctx);
+    }
+
     @Override
     protected RepositoryPath fetchPath(RepositoryPath repositoryPath)
         throws IOException
     {
         RepositoryPath targetPath = hostedRepositoryProvider.fetchPath(repositoryPath);
+        if (targetPath != null)
+        {
+            if (RepositoryFiles.hasExpired(targetPath))
+            {
+                eventPublisher.publishEvent(new ProxyRepositoryPathExpiredEvent(targetPath));
+            }
+
+            return targetPath;
+        }
 
-        if (targetPath == null)
+        // The remote repository has been asked for the path recently.
+        RepositoryPathNotFoundCacheManager.Lookup lookup = repositoryPathNotFoundCacheManager.lookup(repositoryPath);
+        if (lookup.isNotFound())
         {
-            targetPath = resolvePathExclusive(repositoryPath);
+            return null;
         }
-        else if (RepositoryFiles.hasExpired(targetPath))
+
+        if (isTeeDownload())
+        {
+            targetPath = proxyRepositoryArtifactResolver.fetchRemoteResourceStreaming(repositoryPath);
+        }
+        else
         {
-            eventPublisher.publishEvent(new ProxyRepositoryPathExpiredEvent(targetPath));
+            targetPath = proxyRepositoryFetchRegistry.fetch(repositoryPath, this::resolvePathExclusive);
+        }
+
+        // The paths missed while the remote repository is down are not remembered, as the outage is not a miss.
+        if (targetPath == null && remoteRepositoryAlivenessCacheManager.isAlive(repositoryPath.getRepository()
+                                                                                              .getRemoteRepository()))
+        {
+            repositoryPathNotFoundCacheManager.putNotFound(lookup);
         }
 
         return targetPath;
@@ -113,6 +179,11 @@ public class ProxyRepositoryProvider
         }
     }
 
+    private boolean isTeeDownload()
+    {
+        return getConfiguration().getRemoteRepositoriesConfiguration().isTeeDownload();
+    }
+
     @Override
     protected OutputStream getOutputStreamInternal(RepositoryPath repositoryPath)
             throws IOException
@@ -0,0 +1,216 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.data.CacheName;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Remembers the paths which were not found in the group and the proxy repositories, so that the repeated requests of
+ * missing artifacts don't check every group member, or the remote repository, again.
+ * <br>
+ * The entries are shared within the Hazelcast cluster and expire after
+ * {@code HazelcastConfiguration.NOT_FOUND_PATHS_CACHE_INVALIDATE_INTERVAL} seconds. A path stored into a repository is
+ * replaced with a tombstone in the repository and in all the groups containing it, and all the entries are removed
+ * once the configuration (the repositories, the group members or the routing rules) changes.
+ * <br>
+ * A lookup remembers the value of its key, and the miss is stored only if the value is still the same, with an atomic
+ * operation of the shared map, so that a path stored anywhere in the cluster during the lookup is not remembered as
+ * missing.
+ */
+@Component
+public class RepositoryPathNotFoundCacheManager
+        implements DisposableBean
+{
+
+    private static final Set<ArtifactEventTypeEnum> INVALIDATING_EVENT_TYPES = EnumSet.of(ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED,
+                                                                                          ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED,
+                                                                                          ArtifactEventTypeEnum.EVENT_ARTIFACT_METADATA_STORED,
+                                                                                          ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_FETCHED_FROM_REMOTE);
+
+    private static final Object NOT_FOUND = Boolean.TRUE;
+
+    /**
+     * Changed on every {@link #invalidateAll()}, so that the lookups started before it don't store their misses.
+     */
+    private static final String GENERATION_KEY = "generation";
+
+    private final Cache cache;
+
+    private final ConcurrentMap<Object, Object> notFoundPaths;
+
+    @Inject
+    private ConfigurationManager configurationManager;
+
+    @Inject
+    @SuppressWarnings("unchecked")
+    RepositoryPathNotFoundCacheManager(CacheManager cacheManager)
+    {
+        cache = cacheManager.getCache(CacheName.Repository.NOT_FOUND_PATHS);
+        Objects.requireNonNull(cache, "notFoundPaths cache configuration was not provided");
+
+        notFoundPaths = (ConcurrentMap<Object, Object>) cache.getNativeCache();
+    }
+
+    public boolean isNotFound(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        return lookup(repositoryPath).isNotFound();
+    }
+
+    /**
+     * @return the lookup of the path, to pass to {@link #putNotFound(Lookup)} once the lookup has missed the path
+     */
+    public Lookup lookup(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        String key = getKey(repositoryPath.getRepository(), RepositoryFiles.relativizePath(repositoryPath));
+
+        return new Lookup(key, notFoundPaths.get(key), getGeneration());
+    }
+
+    /**
+     * Remembers the path unless it has been invalidated since the {@link #lookup(RepositoryPath)} call.
+     */
+    public void putNotFound(Lookup lookup)
+    {
+        if (!Objects.equals(lookup.generation, notFoundPaths.get(GENERATION_KEY)))
+        {
+            return;
+        }
+
+        if (lookup.value == null)
+        {
+            notFoundPaths.putIfAbsent(lookup.key, NOT_FOUND);
+        }
+        else
+        {
+            notFoundPaths.replace(lookup.key, lookup.value, NOT_FOUND);
+        }
+    }
+
+    /**
+     * Replaces the path of the repository, and the same path of all the group repositories containing it, with a new
+     * tombstone.
+     */
+    public void invalidate(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        Repository repository = repositoryPath.getRepository();
+        String artifactPath = RepositoryFiles.relativizePath(repositoryPath);
+
+        String tombstone = newTombstone();
+        notFoundPaths.put(getKey(repository, artifactPath), tombstone);
+        for (Repository groupRepository : configurationManager.getConfiguration()
+                                                              .getGroupRepositoriesContainingTransitively(repository.getStorage()
+                                                                                                                    .getId(),
+                                                                                                          repository.getId()))
+        {
+            notFoundPaths.put(getKey(groupRepository, artifactPath), tombstone);
+        }
+    }
+
+    public void invalidateAll()
+    {
+        cache.clear();
+        notFoundPaths.put(GENERATION_KEY, newTombstone());
+    }
+
+    /**
+     * Invalidates after the commit, so that a lookup which misses the stored path right before the commit doesn't
+     * outlive it.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+        throws IOException
+    {
+        if (INVALIDATING_EVENT_TYPES.stream().noneMatch(t -> t.getType() == event.getType()))
+        {
+            return;
+        }
+
+        invalidate(event.getPath());
+    }
+
+    private String getKey(Repository repository,
+                          String artifactPath)
+    {
+        return repository.getStorage().getId() + ":" + repository.getId() + ":" + artifactPath;
+    }
+
+    /**
+     * The generation is created on the first lookup after it has been cleared, or has expired, so that a lookup never
+     * sees the same (missing) generation before and after an {@link #invalidateAll()}.
+     */
+    private Object getGeneration()
+    {
+        Object generation = notFoundPaths.get(GENERATION_KEY);
+        if (generation != null)
+        {
+            return generation;
+        }
+
+        generation = newTombstone();
+        Object existingGeneration = notFoundPaths.putIfAbsent(GENERATION_KEY, generation);
+
+        return existingGeneration != null ? existingGeneration : generation;
+    }
+
+    private static String newTombstone()
+    {
+        return UUID.randomUUID().toString();
+    }
+
+    @Override
+    public void destroy()
+    {
+        cache.clear();
+    }
+
+    /**
+     * The values of the path key and of the generation seen when the lookup started.
+     */
+    public static class Lookup
+    {
+
+        private final String key;
+
+        private final Object value;
+
+        private final Object generation;
+
+        private Lookup(String key,
+                       Object value,
+                       Object generation)
+        {
+            this.key = key;
+            this.value = value;
+            this.generation = generation;
+        }
+
+        public boolean isNotFound()
+        {
+            return NOT_FOUND.equals(value);
+        }
+
+    }
+
+}
@@ -33,6 +33,8 @@ import static org.carlspring.strongbox.services.support.ArtifactEntrySearchCrite
 public class LocalStorageProxyRepositoryExpiredArtifactsCleaner
 {
 
+    private static final int PAGE_SIZE = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(LocalStorageProxyRepositoryExpiredArtifactsCleaner.class);
 
     @Inject
@@ -60,17 +62,33 @@ public class LocalStorageProxyRepositoryExpiredArtifactsCleaner
                                                                    .withMinSizeInBytes(minSizeInBytes)
                                                                    .build();
 
-        final List<ArtifactEntry> artifactEntries = artifactEntryService.findMatching(searchCriteria,
-                                                                                      PagingCriteria.ALL);
-        filterAccessibleProxiedArtifacts(artifactEntries);
-
-        if (CollectionUtils.isEmpty(artifactEntries))
+        // The pages follow the last entry of the previous one, so they are neither shifted by the deleted entries,
+        // nor slowed down by skipping all the preceding ones.
+        String after = null;
+        int pageSize;
+        do
         {
-            return;
-        }
+            final List<ArtifactEntry> artifactEntries = artifactEntryService.findMatching(searchCriteria,
+                                                                                          PagingCriteria.after(after,
+                                                                                                               PAGE_SIZE));
+            pageSize = artifactEntries.size();
+            if (pageSize == 0)
+            {
+                return;
+            }
+            after = artifactEntries.get(pageSize - 1).getUuid();
 
-        logger.debug("Cleaning artifacts {}", artifactEntries);
-        deleteFromStorage(artifactEntries);
+            filterAccessibleProxiedArtifacts(artifactEntries);
+
+            if (CollectionUtils.isEmpty(artifactEntries))
+            {
+                continue;
+            }
+
+            logger.debug("Cleaning artifacts {}", artifactEntries);
+            deleteFromStorage(artifactEntries);
+        }
+        while (pageSize == PAGE_SIZE);
     }
 
     private void filterAccessibleProxiedArtifacts(final List<ArtifactEntry> artifactEntries)
@@ -1,5 +1,6 @@
 package org.carlspring.strongbox.providers.repository.proxied;
 
+import org.carlspring.strongbox.artifact.ArtifactNotFoundException;
 import org.carlspring.strongbox.client.RestArtifactResolver;
 import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributes;
@@ -14,12 +15,24 @@ import javax.inject.Inject;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.nio.file.Files;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
+import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 /**
@@ -27,6 +40,7 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public class ProxyRepositoryArtifactResolver
+        implements InitializingBean, DisposableBean
 {
     private static final Logger logger = LoggerFactory.getLogger(ProxyRepositoryArtifactResolver.class);
 
@@ -45,6 +59,34 @@ public class ProxyRepositoryArtifactResolver
     @Inject
     private ArtifactManagementService artifactManagementService;
 
+    @Value("${strongbox.proxy.download.threads:32}")
+    private int downloadThreads;
+
+    private final ConcurrentMap<URI, ProxyRepositoryDownload> downloads = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor downloadExecutor;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        // Once the pool and its queue are full, the download is performed by the calling thread, which then serves
+        // the stored artifact.
+        downloadExecutor = new ThreadPoolExecutor(downloadThreads,
+                                                  downloadThreads,
+                                                  60,
+                                                  TimeUnit.SECONDS,
+                                                  new ArrayBlockingQueue<>(downloadThreads * 16),
+                                                  new CustomizableThreadFactory("proxy-download-"),
+                                                  new ThreadPoolExecutor.CallerRunsPolicy());
+        downloadExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void destroy()
+    {
+        downloadExecutor.shutdownNow();
+    }
+
     /**
      * This method has been developed to force fetch resource from remote.
      *
@@ -80,6 +122,144 @@ public class ProxyRepositoryArtifactResolver
         }
     }
 
+    /**
+     * Starts to fetch the resource from remote, or joins the download which is
+     * already in progress for the same path. The resource bytes become
+     * readable with {@link #getInputStream(RepositoryPath)} as soon as they
+     * arrive, and the resource is stored only after it has been downloaded
+     * completely.
+     */
+    public RepositoryPath fetchRemoteResourceStreaming(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        Repository repository = repositoryPath.getFileSystem().getRepository();
+        final RemoteRepository remoteRepository = repository.getRemoteRepository();
+        if (!remoteRepositoryAlivenessCacheManager.isAlive(remoteRepository))
+        {
+            logger.debug("Remote repository '" + remoteRepository.getUrl() + "' is down.");
+
+            return null;
+        }
+
+        URI key = repositoryPath.toUri();
+        MutableBoolean started = new MutableBoolean();
+        ProxyRepositoryDownload download;
+        try
+        {
+            // Only the first requester sets up the download, the others join it.
+            download = downloads.computeIfAbsent(key, k -> {
+                started.setTrue();
+
+                return newDownload(repositoryPath);
+            });
+        }
+        catch (UncheckedIOException e)
+        {
+            throw e.getCause();
+        }
+
+        if (started.isTrue())
+        {
+            RestArtifactResolver client = restArtifactResolverFactory.newInstance(remoteRepository);
+            ProxyRepositoryDownload newDownload = download;
+
+            downloadExecutor.execute(() -> download(key, newDownload, client));
+        }
+        else
+        {
+            logger.debug(String.format("Joining download in progress for [%s].", repositoryPath));
+        }
+
+        download.awaitConnected();
+
+        return repositoryPath;
+    }
+
+    private ProxyRepositoryDownload newDownload(RepositoryPath repositoryPath)
+    {
+        try
+        {
+            return new ProxyRepositoryDownload(repositoryPath);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the stream over the resource bytes downloaded so far, or
+     *         <code>null</code> if there is no download in progress for the path
+     */
+    public InputStream getInputStream(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        ProxyRepositoryDownload download = downloads.get(repositoryPath.toUri());
+
+        return download == null ? null : download.newInputStream();
+    }
+
+    public boolean isDownloading(RepositoryPath repositoryPath)
+    {
+        return downloads.containsKey(repositoryPath.toUri());
+    }
+
+    private void download(URI key,
+                          ProxyRepositoryDownload download,
+                          RestArtifactResolver client)
+    {
+        RepositoryPath repositoryPath = download.getRepositoryPath();
+
+        ReadWriteLock lockSource = repositoryPathLock.lock(repositoryPath, "remote-fetch");
+        Lock lock = lockSource.writeLock();
+        lock.lock();
+
+        try
+        {
+            try (InputStream is = new BufferedInputStream(new ProxyRepositoryInputStream(client, repositoryPath)))
+            {
+                download.transfer(is);
+            }
+
+            try (InputStream is = download.newInputStream())
+            {
+                doFetch(repositoryPath, is);
+            }
+        }
+        catch (ArtifactNotFoundException e)
+        {
+            logger.debug(String.format("Remote resource not found for [%s].", repositoryPath));
+
+            download.fail(e);
+        }
+        catch (IOException e)
+        {
+            logger.error(String.format("Failed to download [%s].", repositoryPath), e);
+
+            download.fail(e);
+        }
+        catch (Exception e)
+        {
+            logger.error(String.format("Failed to download [%s].", repositoryPath), e);
+
+            download.fail(new IOException(e));
+        }
+        finally
+        {
+            downloads.remove(key, download);
+            lock.unlock();
+
+            try
+            {
+                download.release();
+            }
+            catch (IOException e)
+            {
+                logger.warn(String.format("Failed to remove downloaded file for [%s].", repositoryPath), e);
+            }
+        }
+    }
+
     private RepositoryPath doFetch(RepositoryPath repositoryPath,
                                    InputStream is)
         throws IOException
@@ -0,0 +1,296 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import org.carlspring.strongbox.artifact.ArtifactNotFoundException;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.TempRepositoryPath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Remote download of a proxied {@link RepositoryPath} which is spooled into a
+ * {@link TempRepositoryPath}. The spooled bytes can be read by any number of
+ * clients while the download is still in progress, and the spool file is
+ * removed once the download and all of its readers have finished.
+ *
+ * @see ProxyRepositoryArtifactResolver#fetchRemoteResourceStreaming(RepositoryPath)
+ */
+public class ProxyRepositoryDownload
+{
+
+    private static final String SPOOL_SUFFIX = ".part";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final RepositoryPath repositoryPath;
+
+    private final TempRepositoryPath spoolPath;
+
+    private long length;
+
+    private boolean connected;
+
+    private boolean completed;
+
+    private IOException failure;
+
+    private int references = 1;
+
+    public ProxyRepositoryDownload(RepositoryPath repositoryPath)
+        throws IOException
+    {
+        this.repositoryPath = repositoryPath;
+        this.spoolPath = RepositoryFiles.temporary(repositoryPath.resolveSibling(repositoryPath.getFileName() +
+                                                                                 SPOOL_SUFFIX));
+    }
+
+    public RepositoryPath getRepositoryPath()
+    {
+        return repositoryPath;
+    }
+
+    /**
+     * Copies the remote stream into the spool file, making every chunk
+     * available to the readers as soon as it has been written.
+     */
+    public void transfer(InputStream is)
+        throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(spoolPath,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            // This forces the lazy connection to the remote repository, so that a missing
+            // remote resource is reported before any client starts reading.
+            is.available();
+            onConnected();
+
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int n;
+            while ((n = is.read(buffer)) != -1)
+            {
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, n);
+                while (byteBuffer.hasRemaining())
+                {
+                    channel.write(byteBuffer);
+                }
+                onWritten(n);
+            }
+            channel.force(false);
+        }
+
+        onCompleted();
+    }
+
+    /**
+     * Waits until the remote repository has responded.
+     *
+     * @throws ArtifactNotFoundException if the remote repository does not have the resource
+     * @throws IOException               if the download could not be started
+     */
+    public synchronized void awaitConnected()
+        throws IOException
+    {
+        while (!connected && failure == null)
+        {
+            doWait();
+        }
+
+        if (failure instanceof ArtifactNotFoundException)
+        {
+            throw new ArtifactNotFoundException(((ArtifactNotFoundException) failure).getArtifactResource());
+        }
+        else if (failure != null)
+        {
+            throw new IOException(String.format("Failed to download [%s].", repositoryPath), failure);
+        }
+    }
+
+    /**
+     * Opens a stream over the downloaded bytes, which blocks until more bytes
+     * arrive or the download finishes.
+     *
+     * @return the stream or <code>null</code> if the spool file has already
+     *         been released and the cached artifact should be read instead
+     */
+    public InputStream newInputStream()
+        throws IOException
+    {
+        synchronized (this)
+        {
+            if (references == 0)
+            {
+                return null;
+            }
+            references++;
+        }
+
+        try
+        {
+            return new SpoolInputStream(FileChannel.open(spoolPath, StandardOpenOption.READ));
+        }
+        catch (IOException e)
+        {
+            release();
+
+            throw e;
+        }
+    }
+
+    public synchronized void fail(IOException e)
+    {
+        if (completed)
+        {
+            return;
+        }
+
+        failure = e;
+        notifyAll();
+    }
+
+    /**
+     * Releases the reference held by the download itself; the spool file is
+     * deleted as soon as the last reader has been closed.
+     */
+    public void release()
+        throws IOException
+    {
+        synchronized (this)
+        {
+            if (--references > 0)
+            {
+                return;
+            }
+        }
+
+        RepositoryFiles.deleteTemporary(spoolPath);
+    }
+
+    private synchronized void onConnected()
+    {
+        connected = true;
+        notifyAll();
+    }
+
+    private synchronized void onWritten(int n)
+    {
+        length += n;
+        notifyAll();
+    }
+
+    private synchronized void onCompleted()
+    {
+        completed = true;
+        notifyAll();
+    }
+
+    private synchronized long awaitAvailable(long position)
+        throws IOException
+    {
+        while (length <= position && !completed && failure == null)
+        {
+            doWait();
+        }
+
+        if (failure != null)
+        {
+            throw new IOException(String.format("Failed to download [%s].", repositoryPath), failure);
+        }
+
+        return length - position;
+    }
+
+    private void doWait()
+        throws InterruptedIOException
+    {
+        try
+        {
+            wait();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException(String.format("Interrupted while downloading [%s].", repositoryPath));
+        }
+    }
+
+    private class SpoolInputStream extends InputStream
+    {
+
+        private final FileChannel channel;
+
+        private long position;
+
+        private boolean closed;
+
+        private SpoolInputStream(FileChannel channel)
+        {
+            this.channel = channel;
+        }
+
+        @Override
+        public int read()
+            throws IOException
+        {
+            byte[] b = new byte[1];
+            int n = read(b, 0, 1);
+
+            return n == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b,
+                        int off,
+                        int len)
+            throws IOException
+        {
+            if (len == 0)
+            {
+                return 0;
+            }
+
+            long available = awaitAvailable(position);
+            if (available <= 0)
+            {
+                return -1;
+            }
+
+            int n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, available)), position);
+            if (n > 0)
+            {
+                position += n;
+            }
+
+            return n;
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            if (closed)
+            {
+                return;
+            }
+            closed = true;
+
+            try
+            {
+                channel.close();
+            }
+            finally
+            {
+                release();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import org.carlspring.strongbox.artifact.ArtifactNotFoundException;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registry of the remote fetches which are in progress on this node.
+ * <br>
+ * The first requester of a path performs the fetch, while all the concurrent
+ * requesters of the same path wait for its outcome instead of queueing for
+ * their own remote request.
+ */
+@Component
+public class ProxyRepositoryFetchRegistry
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ProxyRepositoryFetchRegistry.class);
+
+    private final ConcurrentMap<URI, Fetch> fetches = new ConcurrentHashMap<>();
+
+    public RepositoryPath fetch(RepositoryPath repositoryPath,
+                                RemoteFetch remoteFetch)
+        throws IOException
+    {
+        URI key = repositoryPath.toUri();
+
+        Fetch fetch = new Fetch();
+        Fetch inProgress = fetches.putIfAbsent(key, fetch);
+        if (inProgress != null)
+        {
+            logger.debug(String.format("Waiting for the fetch in progress of [%s].", repositoryPath));
+
+            inProgress.waiters.incrementAndGet();
+            try
+            {
+                return await(repositoryPath, inProgress.result);
+            }
+            finally
+            {
+                inProgress.waiters.decrementAndGet();
+            }
+        }
+
+        try
+        {
+            RepositoryPath result = remoteFetch.fetch(repositoryPath);
+            fetch.result.complete(result);
+
+            return result;
+        }
+        catch (IOException | RuntimeException e)
+        {
+            fetch.result.completeExceptionally(e);
+
+            throw e;
+        }
+        finally
+        {
+            fetches.remove(key, fetch);
+        }
+    }
+
+    private RepositoryPath await(RepositoryPath repositoryPath,
+                                 CompletableFuture<RepositoryPath> fetch)
+        throws IOException
+    {
+        try
+        {
+            // The waiter serves its own path, which is now cached, rather than the instance of the fetching thread.
+            return fetch.get() == null ? null : repositoryPath;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException(String.format("Interrupted while waiting for [%s].", repositoryPath));
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof ArtifactNotFoundException)
+            {
+                throw new ArtifactNotFoundException(((ArtifactNotFoundException) cause).getArtifactResource());
+            }
+
+            throw new IOException(String.format("Failed to fetch [%s].", repositoryPath), cause);
+        }
+    }
+
+    /**
+     * @return the number of the requesters which are waiting for the fetch in progress of the path
+     */
+    int getWaiterCount(RepositoryPath repositoryPath)
+    {
+        Fetch fetch = fetches.get(repositoryPath.toUri());
+
+        return fetch == null ? 0 : fetch.waiters.get();
+    }
+
+    private static class Fetch
+    {
+
+        private final CompletableFuture<RepositoryPath> result = new CompletableFuture<>();
+
+        private final AtomicInteger waiters = new AtomicInteger();
+
+    }
+
+    @FunctionalInterface
+    public interface RemoteFetch
+    {
+
+        RepositoryPath fetch(RepositoryPath repositoryPath)
+            throws IOException;
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.services;
 
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -55,6 +56,17 @@ public interface ArtifactEntryService
                                          String orderBy,
                                          boolean strict);
 
+    /**
+     * Unlike the {@code skip} based lookup, the {@link PagingCriteria#isKeyset()} pages are queried
+     * from the index of the sort property, so they take the same time however deep they are.
+     */
+    List<ArtifactEntry> findArtifactList(String storageId,
+                                         String repositoryId,
+                                         Map<String, String> coordinates,
+                                         Set<ArtifactTag> tagSet,
+                                         PagingCriteria pagingCriteria,
+                                         boolean strict);
+
     List<ArtifactEntry> findMatching(ArtifactEntrySearchCriteria searchCriteria,
                                      PagingCriteria pagingCriteria);
 
@@ -81,4 +93,12 @@ public interface ArtifactEntryService
 
     int delete(List<ArtifactEntry> artifactEntries);
 
+    /**
+     * Adds the given number of downloads to the `downloadCount` of the {@link ArtifactEntry} with given UUID and
+     * sets its `lastUsed` date, within single update statement.
+     */
+    int updateDownloadStatistics(String uuid,
+                                 int downloads,
+                                 Date lastUsed);
+
 }
@@ -5,6 +5,7 @@ import org.carlspring.strongbox.configuration.Configuration;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
+import org.carlspring.strongbox.io.ArtifactContentWriter;
 import org.carlspring.strongbox.io.LayoutOutputStream;
 import org.carlspring.strongbox.io.StreamUtils;
 import org.carlspring.strongbox.providers.ProviderImplementationException;
@@ -13,6 +14,7 @@ import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryOutputStream;
+import org.carlspring.strongbox.providers.io.StorageFileSystemProvider.TempOutputStream;
 import org.carlspring.strongbox.providers.layout.LayoutFileSystemProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
 import org.carlspring.strongbox.storage.ArtifactStorageException;
@@ -95,6 +97,22 @@ public class ArtifactManagementService
         performRepositoryAcceptanceValidation(repositoryPath);
         return doStore(repositoryPath, is);
     }
+
+    /**
+     * Stores the content written by the given writer, without buffering it anywhere else than in the temporary
+     * artifact file.
+     */
+    @Transactional
+    public long validateAndStore(RepositoryPath repositoryPath,
+                                 ArtifactContentWriter content)
+        throws IOException,
+        ProviderImplementationException,
+        NoSuchAlgorithmException,
+        ArtifactCoordinatesValidationException
+    {
+        performRepositoryAcceptanceValidation(repositoryPath);
+        return doStore(repositoryPath, content);
+    }
     
     @Deprecated
     @Transactional
@@ -123,6 +141,13 @@ public class ArtifactManagementService
     private long doStore(RepositoryPath repositoryPath,
                          InputStream is)
             throws IOException
+    {
+        return doStore(repositoryPath, os -> IOUtils.copyLarge(is, os));
+    }
+
+    private long doStore(RepositoryPath repositoryPath,
+                         ArtifactContentWriter content)
+            throws IOException
     {
         long result;
         boolean updatedArtifactFile = false;
@@ -134,7 +159,17 @@ public class ArtifactManagementService
         
         try (final RepositoryOutputStream aos = artifactResolutionService.getOutputStream(repositoryPath))
         {
-            result = writeArtifact(repositoryPath, is, aos);
+            try
+            {
+                result = writeArtifact(repositoryPath, content, aos);
+            }
+            catch (IOException | RuntimeException e)
+            {
+                // The content is incomplete or invalid, so it should not replace the artifact.
+                abort(aos);
+
+                throw e;
+            }
             aos.flush();
         }
         catch (IOException e)
@@ -164,8 +199,17 @@ public class ArtifactManagementService
         return result;
     }
 
+    private void abort(OutputStream os)
+    {
+        TempOutputStream tos = StreamUtils.findSource(TempOutputStream.class, os);
+        if (tos != null)
+        {
+            tos.abort();
+        }
+    }
+
     private long writeArtifact(RepositoryPath repositoryPath,
-                               InputStream is,
+                               ArtifactContentWriter content,
                                OutputStream os)
             throws IOException
     {
@@ -186,7 +230,7 @@ public class ArtifactManagementService
             artifactEventListenerRegistry.dispatchArtifactUploadingEvent(repositoryPath);
         }
         
-        long totalAmountOfBytes = IOUtils.copy(is, os);
+        long totalAmountOfBytes = content.writeTo(os);
 
         URI repositoryPathId = repositoryPath.toUri();
         Map<String, String> digestMap = aos.getDigestMap();
@@ -152,16 +152,43 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
             orderBy = "uuid";
         }
 
+        return queryArtifactList(storageId, repositoryId, coordinates, tagSet, skip, limit, orderBy, null, strict);
+    }
+
+    @Override
+    @Transactional
+    public List<ArtifactEntry> findArtifactList(String storageId,
+                                                String repositoryId,
+                                                Map<String, String> coordinates,
+                                                Set<ArtifactTag> tagSet,
+                                                PagingCriteria pagingCriteria,
+                                                boolean strict)
+    {
+        return queryArtifactList(storageId, repositoryId, coordinates, tagSet, 0, 0, null, pagingCriteria, strict);
+    }
+
+    /**
+     * Pages the entries either with the {@code skip}, {@code limit} and {@code orderBy} values, or with the
+     * {@link PagingCriteria}, if provided.
+     */
+    private List<ArtifactEntry> queryArtifactList(String storageId,
+                                                  String repositoryId,
+                                                  Map<String, String> coordinates,
+                                                  Set<ArtifactTag> tagSet,
+                                                  int skip,
+                                                  int limit,
+                                                  String orderBy,
+                                                  PagingCriteria pagingCriteria,
+                                                  boolean strict)
+    {
         coordinates = prepareParameterMap(coordinates, strict);
 
         Map<String, ArtifactTagEntry> tagMap = tagSet.stream()
                                                      .collect(Collectors.toMap(t -> String.format("%sTag", t.getName().replaceAll("-", "")),
                                                                                t -> (ArtifactTagEntry) t));
-        
-        String sQuery = buildCoordinatesQuery(toList(storageId, repositoryId), coordinates.keySet(), tagMap.keySet(),
-                                              skip,
-                                              limit, orderBy, strict);
-        OSQLSynchQuery<ArtifactEntry> oQuery = new OSQLSynchQuery<>(sQuery);
+
+        StringBuilder sb = new StringBuilder(buildCoordinatesQuery(toList(storageId, repositoryId), coordinates.keySet(),
+                                                                   tagMap.keySet(), skip, limit, orderBy, strict));
 
         Map<String, Object> parameterMap = new HashMap<>(coordinates);
         if (storageId != null && !storageId.trim().isEmpty())
@@ -172,12 +199,25 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
         {
             parameterMap.put("repositoryId0", repositoryId);
         }
-
         tagMap.entrySet().stream().forEach(e -> parameterMap.put(e.getKey(), e.getValue().getName()));
-        
-        List<ArtifactEntry> entries = getDelegate().command(oQuery).execute(parameterMap);
 
-        return entries;
+        if (pagingCriteria != null)
+        {
+            String keysetCondition = calculateKeysetCondition(pagingCriteria);
+            if (keysetCondition != null)
+            {
+                sb.append(" AND ").append(keysetCondition);
+                parameterMap.put(KEYSET_PARAMETER_NAME, pagingCriteria.getAfter());
+            }
+
+            appendPagingCriteria(sb, pagingCriteria);
+
+            logger.debug("Executing SQL query> " + sb.toString());
+        }
+
+        OSQLSynchQuery<ArtifactEntry> oQuery = new OSQLSynchQuery<>(sb.toString());
+
+        return getDelegate().command(oQuery).execute(parameterMap);
     }
 
     @Override
@@ -186,15 +226,11 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
     {
         StringBuilder sb = new StringBuilder();
         sb.append("SELECT FROM ").append(getEntityClass().getSimpleName());
-        Map<String, Object> parameterMap = Collections.emptyMap();
-
+        Map<String, Object> parameterMap = new HashMap<>();
 
+        StringBuilder criteriaQueryClasuse = new StringBuilder();
         if (!searchCriteria.isEmpty())
         {
-            StringBuilder criteriaQueryClasuse = new StringBuilder();
-            sb.append(" WHERE ");
-            parameterMap = new HashMap<>();
-
             if (searchCriteria.getMinSizeInBytes() != null && searchCriteria.getMinSizeInBytes() > 0)
             {
                 criteriaQueryClasuse.append(" sizeInBytes >= :minSizeInBytes ");
@@ -210,8 +246,22 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
                 criteriaQueryClasuse.append(" lastUsed < :lastUsed ");
                 parameterMap.put("lastUsed", lastUsed);
             }
+        }
+
+        String keysetCondition = calculateKeysetCondition(pagingCriteria);
+        if (keysetCondition != null)
+        {
+            if (criteriaQueryClasuse.length() > 0)
+            {
+                criteriaQueryClasuse.append(" AND ");
+            }
+            criteriaQueryClasuse.append(keysetCondition);
+            parameterMap.put(KEYSET_PARAMETER_NAME, pagingCriteria.getAfter());
+        }
 
-            sb.append(criteriaQueryClasuse);
+        if (criteriaQueryClasuse.length() > 0)
+        {
+            sb.append(" WHERE ").append(criteriaQueryClasuse);
         }
 
         appendPagingCriteria(sb, pagingCriteria);
@@ -483,6 +533,25 @@ class ArtifactEntryServiceImpl extends AbstractArtifactEntryService
         return getDelegate().command(oCommandSQL).execute(parameterMap);
     }
 
+    @Override
+    public int updateDownloadStatistics(String uuid,
+                                        int downloads,
+                                        Date lastUsed)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("UPDATE ").append(getEntityClass().getSimpleName());
+        sb.append(" SET lastUsed = :lastUsed");
+        sb.append(" INCREMENT downloadCount = ").append(downloads);
+        sb.append(" WHERE uuid = :uuid");
+
+        Map<String, Object> parameterMap = new HashMap<>();
+        parameterMap.put("lastUsed", lastUsed);
+        parameterMap.put("uuid", uuid);
+
+        OCommandSQL oCommandSQL = new OCommandSQL(sb.toString());
+        return getDelegate().command(oCommandSQL).execute(parameterMap);
+    }
+
     private ORID findArtifactEntryId(String storageId,
                                      String repositoryId,
                                      String path)
@@ -5,8 +5,10 @@ import org.carlspring.strongbox.configuration.*;
 import org.carlspring.strongbox.event.repository.RepositoryEvent;
 import org.carlspring.strongbox.event.repository.RepositoryEventListenerRegistry;
 import org.carlspring.strongbox.event.repository.RepositoryEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFileSystemRegistry;
 import org.carlspring.strongbox.providers.layout.LayoutProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
+import org.carlspring.strongbox.providers.repository.RepositoryPathNotFoundCacheManager;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
 import org.carlspring.strongbox.services.ConfigurationManagementService;
 import org.carlspring.strongbox.storage.MutableStorage;
@@ -19,7 +21,6 @@ import javax.inject.Inject;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.*;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
@@ -39,7 +40,7 @@ public class ConfigurationManagementServiceImpl
         implements ConfigurationManagementService
 {
 
-    private final ReadWriteLock configurationLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock configurationLock = new ReentrantReadWriteLock();
 
     @Inject
     private ConfigurationFileManager configurationFileManager;
@@ -56,6 +57,12 @@ public class ConfigurationManagementServiceImpl
     @Inject
     private PlatformTransactionManager transactionManager;
 
+    @Inject
+    private RepositoryFileSystemRegistry repositoryFileSystemRegistry;
+
+    @Inject
+    private RepositoryPathNotFoundCacheManager repositoryPathNotFoundCacheManager;
+
     /**
      * Yes, this is a state object.
      * It is protected by the {@link #configurationLock} here
@@ -65,6 +72,14 @@ public class ConfigurationManagementServiceImpl
      */
     private MutableConfiguration configuration;
 
+    /**
+     * Immutable snapshot of the {@link #configuration}, published under the {@link #configurationLock} write lock
+     * each time the configuration is modified, so that reads neither lock nor copy.
+     *
+     * @see #modifyInLock(Consumer, boolean)
+     */
+    private volatile Configuration configurationSnapshot;
+
     @PostConstruct
     public void init()
     {
@@ -103,17 +118,7 @@ public class ConfigurationManagementServiceImpl
     @Override
     public Configuration getConfiguration()
     {
-        final Lock readLock = configurationLock.readLock();
-        readLock.lock();
-
-        try
-        {
-            return new Configuration(configuration);
-        }
-        finally
-        {
-            readLock.unlock();
-        }
+        return configurationSnapshot;
     }
 
     @Override
@@ -205,8 +210,8 @@ public class ConfigurationManagementServiceImpl
     {
         modifyInLock(configuration ->
                      {
-                         List<Repository> includedInGroupRepositories = getConfiguration().getGroupRepositoriesContaining(
-                                 storageId, repositoryId);
+                         List<Repository> includedInGroupRepositories = new Configuration(
+                                 configuration).getGroupRepositoriesContaining(storageId, repositoryId);
 
                          if (!includedInGroupRepositories.isEmpty())
                          {
@@ -541,6 +546,12 @@ public class ConfigurationManagementServiceImpl
                      });
     }
 
+    @Override
+    public void setTeeDownload(final boolean teeDownload)
+    {
+        modifyInLock(configuration -> configuration.getRemoteRepositoriesConfiguration().setTeeDownload(teeDownload));
+    }
+
     @Override
     public void addRepositoryArtifactCoordinateValidator(final String storageId,
                                                          final String repositoryId,
@@ -630,6 +641,18 @@ public class ConfigurationManagementServiceImpl
         {
             operation.accept(configuration);
 
+            // Nested modifications are published once, by the outermost one.
+            if (configurationLock.getWriteHoldCount() == 1)
+            {
+                configurationSnapshot = new Configuration(configuration);
+
+                // Cached file systems reference the previous repository state.
+                repositoryFileSystemRegistry.invalidate();
+
+                // So do the paths not found in the group and proxy repositories.
+                repositoryPathNotFoundCacheManager.invalidateAll();
+            }
+
             if (storeInFile)
             {
                 configurationFileManager.store(configuration);
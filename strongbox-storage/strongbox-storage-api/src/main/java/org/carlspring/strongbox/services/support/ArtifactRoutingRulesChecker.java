@@ -3,10 +3,8 @@ package org.carlspring.strongbox.services.support;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
-import org.carlspring.strongbox.storage.repository.Repository;
-import org.carlspring.strongbox.storage.routing.RoutingRule;
+import org.carlspring.strongbox.services.support.ArtifactRoutingRulesIndex.MemberRoutingRules;
 import org.carlspring.strongbox.storage.routing.RoutingRules;
-import org.carlspring.strongbox.storage.routing.RuleSet;
 
 import javax.inject.Inject;
 import java.io.IOException;
@@ -24,28 +22,21 @@ public class ArtifactRoutingRulesChecker
     @Inject
     private ConfigurationManager configurationManager;
 
+    private volatile ArtifactRoutingRulesIndex routingRulesIndex;
+
     public boolean isDenied(String groupRepositoryId,
                             RepositoryPath repositoryPath)
             throws IOException
     {
-        final RoutingRules routingRules = configurationManager.getConfiguration().getRoutingRules();
-        final RuleSet denyRules = routingRules.getDenyRules(groupRepositoryId);
-        final RuleSet wildcardDenyRules = routingRules.getWildcardDeniedRules();
-        final RuleSet acceptRules = routingRules.getAcceptRules(groupRepositoryId);
-        final RuleSet wildcardAcceptRules = routingRules.getWildcardAcceptedRules();
-
-        if (fitsRoutingRules(repositoryPath, denyRules) ||
-            fitsRoutingRules(repositoryPath, wildcardDenyRules))
+        final String repositoryId = repositoryPath.getRepository().getId();
+        final MemberRoutingRules memberRoutingRules = getRoutingRulesIndex().getMemberRoutingRules(groupRepositoryId,
+                                                                                                   repositoryId);
+        if (memberRoutingRules == null)
         {
-            if (!(fitsRoutingRules(repositoryPath, acceptRules) ||
-                  fitsRoutingRules(repositoryPath, wildcardAcceptRules)))
-            {
-                return true;
-            }
-
+            return false;
         }
 
-        return false;
+        return memberRoutingRules.isDenied(RepositoryFiles.relativizePath(repositoryPath));
     }
 
     public boolean isAccepted(String groupRepositoryId,
@@ -55,25 +46,21 @@ public class ArtifactRoutingRulesChecker
         return !isDenied(groupRepositoryId, repositoryPath);
     }
 
-    private boolean fitsRoutingRules(RepositoryPath repositoryPath,
-                                     RuleSet denyRules)
-            throws IOException
+    /**
+     * The index is rebuilt once the configuration, and so its {@link RoutingRules}, has been replaced.
+     */
+    private ArtifactRoutingRulesIndex getRoutingRulesIndex()
     {
-        Repository repository = repositoryPath.getRepository();
-        if (denyRules != null && !denyRules.getRoutingRules().isEmpty())
+        final RoutingRules routingRules = configurationManager.getConfiguration().getRoutingRules();
+
+        ArtifactRoutingRulesIndex index = routingRulesIndex;
+        if (index == null || !index.isBuiltFrom(routingRules))
         {
-            String artifactPath = RepositoryFiles.relativizePath(repositoryPath);
-            for (RoutingRule rule : denyRules.getRoutingRules())
-            {
-                if (rule.getRepositories().contains(repository.getId())
-                    && rule.getRegex().matcher(artifactPath).matches())
-                {
-                    return true;
-                }
-            }
+            index = new ArtifactRoutingRulesIndex(routingRules);
+            routingRulesIndex = index;
         }
 
-        return false;
+        return index;
     }
 
 }
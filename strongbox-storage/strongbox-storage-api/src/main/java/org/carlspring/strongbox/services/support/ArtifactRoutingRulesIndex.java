@@ -0,0 +1,158 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.storage.routing.RoutingRule;
+import org.carlspring.strongbox.storage.routing.RoutingRules;
+import org.carlspring.strongbox.storage.routing.RuleSet;
+
+import javax.annotation.concurrent.Immutable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * The {@link RoutingRules} compiled per group repository and member repository, so that the members without deny
+ * rules are resolved with a map lookup, and the others are matched against their own rules only.
+ * <br>
+ * The index is bound to the {@link RoutingRules} instance it's built from, which is replaced on every configuration
+ * change.
+ */
+@Immutable
+class ArtifactRoutingRulesIndex
+{
+
+    private final RoutingRules routingRules;
+
+    /**
+     * Deny rules by group repository and member repository. The groups without their own rules use the
+     * {@link RoutingRules#WILDCARD} ones.
+     */
+    private final Map<String, Map<String, MemberRoutingRules>> groupRoutingRules;
+
+    ArtifactRoutingRulesIndex(RoutingRules routingRules)
+    {
+        this.routingRules = routingRules;
+
+        if (routingRules == null)
+        {
+            this.groupRoutingRules = Collections.emptyMap();
+
+            return;
+        }
+
+        Set<String> groupRepositoryIds = new HashSet<>();
+        groupRepositoryIds.addAll(routingRules.getAccepted().keySet());
+        groupRepositoryIds.addAll(routingRules.getDenied().keySet());
+        groupRepositoryIds.add(RoutingRules.WILDCARD);
+
+        Map<String, Map<String, MemberRoutingRules>> index = new HashMap<>();
+        for (String groupRepositoryId : groupRepositoryIds)
+        {
+            index.put(groupRepositoryId, indexGroup(groupRepositoryId));
+        }
+
+        this.groupRoutingRules = Collections.unmodifiableMap(index);
+    }
+
+    private Map<String, MemberRoutingRules> indexGroup(String groupRepositoryId)
+    {
+        Map<String, List<Pattern>> denied = indexPatterns(routingRules.getDenyRules(groupRepositoryId),
+                                                          routingRules.getWildcardDeniedRules());
+        Map<String, List<Pattern>> accepted = indexPatterns(routingRules.getAcceptRules(groupRepositoryId),
+                                                            routingRules.getWildcardAcceptedRules());
+
+        // Members which are only accepted are never denied, so they are left out.
+        Map<String, MemberRoutingRules> result = new HashMap<>();
+        denied.forEach((repositoryId, deniedPatterns) -> result.put(repositoryId,
+                                                                    new MemberRoutingRules(deniedPatterns,
+                                                                                           accepted.getOrDefault(
+                                                                                                   repositoryId,
+                                                                                                   Collections.emptyList()))));
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Map<String, List<Pattern>> indexPatterns(RuleSet... ruleSets)
+    {
+        Map<String, List<Pattern>> result = new HashMap<>();
+        for (RuleSet ruleSet : ruleSets)
+        {
+            if (ruleSet == null)
+            {
+                continue;
+            }
+
+            for (RoutingRule rule : ruleSet.getRoutingRules())
+            {
+                for (String repositoryId : rule.getRepositories())
+                {
+                    result.computeIfAbsent(repositoryId, k -> new ArrayList<>()).add(rule.getRegex());
+                }
+            }
+        }
+
+        return result;
+    }
+
+    boolean isBuiltFrom(RoutingRules routingRules)
+    {
+        return this.routingRules == routingRules;
+    }
+
+    /**
+     * @return the rules of the member repository within the group repository, or {@code null} if the member has no
+     *         deny rules there
+     */
+    MemberRoutingRules getMemberRoutingRules(String groupRepositoryId,
+                                             String repositoryId)
+    {
+        Map<String, MemberRoutingRules> memberRoutingRules = groupRoutingRules.get(groupRepositoryId);
+        if (memberRoutingRules == null)
+        {
+            memberRoutingRules = groupRoutingRules.getOrDefault(RoutingRules.WILDCARD, Collections.emptyMap());
+        }
+
+        return memberRoutingRules.get(repositoryId);
+    }
+
+    @Immutable
+    static class MemberRoutingRules
+    {
+
+        private final Pattern[] denied;
+
+        private final Pattern[] accepted;
+
+        private MemberRoutingRules(List<Pattern> denied,
+                                   List<Pattern> accepted)
+        {
+            this.denied = denied.toArray(new Pattern[0]);
+            this.accepted = accepted.toArray(new Pattern[0]);
+        }
+
+        boolean isDenied(String artifactPath)
+        {
+            return matches(denied, artifactPath) && !matches(accepted, artifactPath);
+        }
+
+        private static boolean matches(Pattern[] patterns,
+                                       String artifactPath)
+        {
+            for (Pattern pattern : patterns)
+            {
+                if (pattern.matcher(artifactPath).matches())
+                {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+    }
+
+}
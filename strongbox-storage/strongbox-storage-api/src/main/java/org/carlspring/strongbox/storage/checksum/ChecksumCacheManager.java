@@ -1,11 +1,12 @@
 package org.carlspring.strongbox.storage.checksum;
 
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,9 +23,9 @@ import org.slf4j.LoggerFactory;
  * - a match is found, but does not match, trigger an event and log this, then remove
  * the checksum from the cache. (If the checksums set is empty, remove the respective
  * Checksum from the cachedChecksums).
- * - a checksum is not claimed within cachedChecksumLifetime, trigger an event and log
- * this, then remove the checksum from the cache. (If this checksums set is empty,
- * remove the respective Checksum from the cachedChecksums).
+ * - a checksum is not claimed within cachedChecksumLifetime, it's evicted from the cache.
+ * <p>
+ * The cache holds at most {@link #getMaximumSize()} artifacts, the least recently used ones are evicted first.
  *
  * @author mtodorov
  */
@@ -33,33 +34,56 @@ public class ChecksumCacheManager
 
     private static Logger logger = LoggerFactory.getLogger(ChecksumCacheManager.class);
 
+    public static final long DEFAULT_MAXIMUM_SIZE = 10000;
+
     /**
-     * Key:     Artifact path
-     * Value:   Artifact checksum.
+     * The default is one minute.
      */
-    private Map<String, ArtifactChecksum> cachedChecksums = new LinkedHashMap<>();
+    public static final long DEFAULT_CACHED_CHECKSUM_LIFETIME = 60000;
 
     /**
-     * Specifies how long to keep the cached checksums.
-     * <p>
-     * The default is five minutes.
+     * Key:     Artifact path
+     * Value:   Artifact checksum.
      */
-    private long cachedChecksumLifetime = 5 * 60000;
+    private final Cache<String, ArtifactChecksum> cachedChecksums;
+
+    private final long maximumSize;
 
     /**
-     * Specifies at what interval to check if the checksums have expired.
-     * The default is to check once every minute.
+     * Specifies how long to keep the cached checksums since they were last accessed, in milliseconds.
      */
-    private long cachedChecksumExpiredCheckInterval = 60000L;
+    private final long cachedChecksumLifetime;
 
 
     public ChecksumCacheManager()
     {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_CACHED_CHECKSUM_LIFETIME);
+    }
+
+    public ChecksumCacheManager(long maximumSize,
+                                long cachedChecksumLifetime)
+    {
+        this(maximumSize, cachedChecksumLifetime, Ticker.systemTicker());
+    }
+
+    ChecksumCacheManager(long maximumSize,
+                         long cachedChecksumLifetime,
+                         Ticker ticker)
+    {
+        this.maximumSize = maximumSize;
+        this.cachedChecksumLifetime = cachedChecksumLifetime;
+        this.cachedChecksums = CacheBuilder.newBuilder()
+                                           .maximumSize(maximumSize)
+                                           .expireAfterAccess(cachedChecksumLifetime, TimeUnit.MILLISECONDS)
+                                           .ticker(ticker)
+                                           .recordStats()
+                                           .build();
     }
 
     public boolean containsArtifactPath(String artifactPath)
     {
-        final boolean containsChecksum = cachedChecksums.containsKey(artifactPath);
+        // The map view is used, so that the lookup doesn't count in the hit rate.
+        final boolean containsChecksum = cachedChecksums.asMap().containsKey(artifactPath);
         if (containsChecksum)
         {
             logger.debug("Cache contains artifact path '" + artifactPath + "'.");
@@ -71,12 +95,12 @@ public class ChecksumCacheManager
     public String getArtifactChecksum(String artifactBasePath,
                                       String algorithm)
     {
-        if (!cachedChecksums.containsKey(artifactBasePath))
+        final ArtifactChecksum artifactChecksum = getArtifactChecksum(artifactBasePath);
+        if (artifactChecksum == null)
         {
             return null;
         }
 
-        final ArtifactChecksum artifactChecksum = getArtifactChecksum(artifactBasePath);
         final String checksum = artifactChecksum.getChecksum(algorithm);
         if (checksum != null)
         {
@@ -88,101 +112,93 @@ public class ChecksumCacheManager
 
     public ArtifactChecksum getArtifactChecksum(String artifactBasePath)
     {
-        return cachedChecksums.get(artifactBasePath);
+        return cachedChecksums.getIfPresent(artifactBasePath);
     }
 
     public boolean validateChecksum(String artifactPath,
                                     String algorithm,
                                     String checksum)
     {
-        return getArtifactChecksum(artifactPath, algorithm).equals(checksum);
+        return checksum.equals(getArtifactChecksum(artifactPath, algorithm));
     }
 
-    public synchronized void addArtifactChecksum(String artifactBasePath,
-                                                 String algorithm,
-                                                 String checksum)
+    public void addArtifactChecksum(String artifactBasePath,
+                                    String algorithm,
+                                    String checksum)
     {
         logger.debug("Adding checksum '" + checksum + "' [" + algorithm + "]" + " for '" + artifactBasePath + "' in cache.");
 
-        if (cachedChecksums.containsKey(artifactBasePath))
-        {
-            final ArtifactChecksum artifactChecksum = getArtifactChecksum(artifactBasePath);
-            artifactChecksum.addChecksum(algorithm, checksum);
-        }
-        else
+        // The entries are removed under their own lock once their last checksum has been removed, so the checksum is
+        // added again to a new entry if it lost the race with the removal. The map view is used, so that only the
+        // lookups of the checksums count in the hit rate.
+        while (true)
         {
-            ArtifactChecksum artifactChecksum = new ArtifactChecksum();
-            artifactChecksum.addChecksum(algorithm, checksum);
+            ArtifactChecksum artifactChecksum = cachedChecksums.asMap().computeIfAbsent(artifactBasePath,
+                                                                                         k -> new ArtifactChecksum());
 
-            cachedChecksums.put(artifactBasePath, artifactChecksum);
-        }
-    }
+            synchronized (artifactChecksum)
+            {
+                if (cachedChecksums.asMap().get(artifactBasePath) != artifactChecksum)
+                {
+                    continue;
+                }
 
-    public synchronized void removeArtifactChecksum(String artifactBasePath,
-                                                    String algorithm)
-    {
-        Optional.ofNullable(getArtifactChecksum(artifactBasePath)).map(ac -> {
-            logger.debug(ac.removeChecksum(algorithm)
-                           .map(c -> String.format("Removed [%s] artifact checksum value [%s] from cache.",
-                                                   artifactBasePath,
-                                                   c))
-                           .orElseGet(() -> String.format("Checksum algorithm [%s] not found for [%s] in cache.",
-                                                          algorithm,
-                                                          artifactBasePath)));
-            return ac;
-        }).filter(ac -> ac.getChecksums().isEmpty()).ifPresent(ac -> cachedChecksums.values().remove(ac));
-    }
+                artifactChecksum.addChecksum(algorithm, checksum);
 
-    public synchronized void removeArtifactChecksum(String artifactBasePath)
-    {
-        Optional.ofNullable(cachedChecksums.remove(artifactBasePath))
-                .ifPresent(ac -> logger.debug(String.format("Removed [%s] artifact checksum value [%s] from cache.",
-                                                            artifactBasePath, ac)));
+                return;
+            }
+        }
     }
 
-    public synchronized void removeExpiredChecksums()
+    public void removeArtifactChecksum(String artifactBasePath,
+                                       String algorithm)
     {
-        for (String checksum : getExpiredChecksums())
+        ArtifactChecksum artifactChecksum = cachedChecksums.asMap().get(artifactBasePath);
+        if (artifactChecksum == null)
         {
-            removeArtifactChecksum(checksum);
+            return;
         }
-    }
-
-    private Set<String> getExpiredChecksums()
-    {
-        Set<String> expiredChecksums = new LinkedHashSet<>();
 
-        for (Map.Entry<String, ArtifactChecksum> artifactChecksumEntry : cachedChecksums.entrySet())
+        synchronized (artifactChecksum)
         {
-            ArtifactChecksum checksum = artifactChecksumEntry.getValue();
-
-            if (System.currentTimeMillis() - checksum.getLastAccessed() > cachedChecksumLifetime)
+            Optional<String> checksum = artifactChecksum.removeChecksum(algorithm);
+            logger.debug(checksum.map(c -> String.format("Removed [%s] artifact checksum value [%s] from cache.",
+                                                         artifactBasePath,
+                                                         c))
+                                 .orElseGet(() -> String.format("Checksum algorithm [%s] not found for [%s] in cache.",
+                                                                algorithm,
+                                                                artifactBasePath)));
+
+            if (artifactChecksum.getChecksums().isEmpty())
             {
-                expiredChecksums.add(artifactChecksumEntry.getKey());
+                cachedChecksums.asMap().remove(artifactBasePath, artifactChecksum);
             }
         }
-
-        return expiredChecksums;
     }
 
-    public long getCachedChecksumLifetime()
+    public void removeArtifactChecksum(String artifactBasePath)
     {
-        return cachedChecksumLifetime;
+        Optional.ofNullable(cachedChecksums.asMap().remove(artifactBasePath))
+                .ifPresent(ac -> logger.debug(String.format("Removed [%s] artifact checksum value [%s] from cache.",
+                                                            artifactBasePath, ac)));
     }
 
-    public void setCachedChecksumLifetime(long cachedChecksumLifetime)
+    /**
+     * The expired checksums are evicted as part of the regular cache operations, this only forces it.
+     */
+    public void removeExpiredChecksums()
     {
-        this.cachedChecksumLifetime = cachedChecksumLifetime;
+        cachedChecksums.cleanUp();
     }
 
-    public long getCachedChecksumExpiredCheckInterval()
+    public long getMaximumSize()
     {
-        return cachedChecksumExpiredCheckInterval;
+        return maximumSize;
     }
 
-    public void setCachedChecksumExpiredCheckInterval(long cachedChecksumExpiredCheckInterval)
+    public long getCachedChecksumLifetime()
     {
-        this.cachedChecksumExpiredCheckInterval = cachedChecksumExpiredCheckInterval;
+        return cachedChecksumLifetime;
     }
 
     public long getSize()
@@ -190,37 +206,26 @@ public class ChecksumCacheManager
         return cachedChecksums.size();
     }
 
-    public void startMonitor()
+    /**
+     * @return the ratio of the lookups which found the checksums of the artifact
+     */
+    public double getHitRate()
     {
-        new CachedChecksumExpirer();
+        return cachedChecksums.stats().hitRate();
     }
 
-    private class CachedChecksumExpirer
-            extends Thread
+    /**
+     * @return the number of artifacts evicted because of their size or their lifetime, not including the artifacts
+     *         whose checksums have all been validated
+     */
+    public long getEvictionCount()
     {
+        return cachedChecksums.stats().evictionCount();
+    }
 
-        private CachedChecksumExpirer()
-        {
-            start();
-        }
-
-        @Override
-        public void run()
-        {
-            try
-            {
-                //noinspection InfiniteLoopStatement
-                while (true)
-                {
-                    Thread.sleep(getCachedChecksumExpiredCheckInterval());
-                    removeExpiredChecksums();
-                }
-            }
-            catch (InterruptedException e)
-            {
-                logger.error(e.getMessage(), e);
-            }
-        }
+    public CacheStats getStats()
+    {
+        return cachedChecksums.stats();
     }
 
 }
@@ -0,0 +1,110 @@
+package org.carlspring.strongbox.artifact;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArtifactEntryHandlerExecutorTest
+{
+
+    private final ArtifactEntryHandlerExecutor executor = new ArtifactEntryHandlerExecutor(4, 2);
+
+
+    @AfterEach
+    public void tearDown()
+    {
+        executor.destroy();
+    }
+
+    @Test
+    public void tasksWithSameKeyShouldRunInSubmissionOrder()
+        throws Exception
+    {
+        List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> results = IntStream.range(0, 100)
+                                                            .mapToObj(i -> executor.submit("entry", () -> {
+                                                                maxRunning.accumulateAndGet(running.incrementAndGet(),
+                                                                                            Math::max);
+                                                                applied.add(i);
+                                                                running.decrementAndGet();
+
+                                                                return i;
+                                                            }))
+                                                            .collect(Collectors.toList());
+
+        for (int i = 0; i < results.size(); i++)
+        {
+            assertEquals(Integer.valueOf(i), results.get(i).get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), applied);
+        assertEquals(1, maxRunning.get());
+        assertEquals(0, executor.getPendingKeyCount());
+    }
+
+    @Test
+    public void fullQueueShouldBlockSubmitter()
+        throws Exception
+    {
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Four workers are busy and two tasks are queued, so the next distinct key has to wait for a free slot.
+        List<CompletableFuture<Object>> results = IntStream.range(0, 6)
+                                                           .mapToObj(i -> executor.submit("entry-" + i, () -> {
+                                                               release.await();
+
+                                                               return null;
+                                                           }))
+                                                           .collect(Collectors.toList());
+
+        CompletableFuture<CompletableFuture<Object>> blocked = CompletableFuture.supplyAsync(() -> executor.submit("entry-6",
+                                                                                                                  () -> null));
+
+        Thread.sleep(200);
+        assertFalse(blocked.isDone());
+
+        release.countDown();
+
+        blocked.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<Object> result : results)
+        {
+            result.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(1, executor.getBlockedSubmissionCount());
+        assertEquals(7, executor.getSubmittedTaskCount());
+    }
+
+    @Test
+    public void failureShouldNotBreakKeyQueue()
+        throws Exception
+    {
+        CompletableFuture<Object> failed = executor.submit("entry", () -> {
+            throw new IllegalStateException();
+        });
+        CompletableFuture<String> next = executor.submit("entry", () -> "next");
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertEquals("next", next.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executor.getFailedTaskCount());
+    }
+
+}
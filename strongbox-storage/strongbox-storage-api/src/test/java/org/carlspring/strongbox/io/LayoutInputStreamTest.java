@@ -0,0 +1,97 @@
+package org.carlspring.strongbox.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.NullOutputStream;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LayoutInputStreamTest
+{
+
+    private static final int CONTENT_SIZE = 100 * 1024 + 17;
+
+    @Test
+    public void partialReadsShouldDigestOnlyTheBytesRead()
+        throws Exception
+    {
+        byte[] content = new byte[CONTENT_SIZE];
+        new Random().nextBytes(content);
+
+        byte[] buffer = new byte[4096];
+        try (LayoutInputStream is = new LayoutInputStream(new ShortReadInputStream(content)))
+        {
+            assertEquals(content[0], (byte) is.read());
+
+            // The buffer is dirty, and the reads fill a part of it only.
+            while (is.read(buffer, 3, buffer.length - 3) != -1)
+            {
+                Arrays.fill(buffer, (byte) 1);
+            }
+
+            assertEquals(DigestUtils.md5Hex(content),
+                         is.getMessageDigestAsHexadecimalString(MessageDigestAlgorithms.MD5));
+            assertEquals(DigestUtils.sha1Hex(content),
+                         is.getMessageDigestAsHexadecimalString(MessageDigestAlgorithms.SHA_1));
+        }
+    }
+
+    @Test
+    public void trustedChecksumsShouldNotBeDigested()
+        throws Exception
+    {
+        byte[] content = "trusted".getBytes();
+
+        try (LayoutInputStream is = new LayoutInputStream(new ByteArrayInputStream(content),
+                                                          Collections.emptySet()))
+        {
+            is.getHexDigests().put(MessageDigestAlgorithms.MD5, "stored-md5");
+
+            IOUtils.copy(is, NullOutputStream.NULL_OUTPUT_STREAM);
+
+            assertTrue(is.getDigests().isEmpty());
+            assertEquals("stored-md5", is.getMessageDigestAsHexadecimalString(MessageDigestAlgorithms.MD5));
+            assertNull(is.getMessageDigestAsHexadecimalString(MessageDigestAlgorithms.SHA_1));
+        }
+    }
+
+    /**
+     * Returns fewer bytes than requested, the way a socket does.
+     */
+    private static class ShortReadInputStream extends FilterInputStream
+    {
+
+        private ShortReadInputStream(byte[] content)
+        {
+            super(new ByteArrayInputStream(content));
+        }
+
+        @Override
+        public int read(byte[] b,
+                        int off,
+                        int len)
+            throws IOException
+        {
+            return super.read(b, off, Math.min(len, 997));
+        }
+
+        @Override
+        public int available()
+        {
+            return 0;
+        }
+
+    }
+
+}
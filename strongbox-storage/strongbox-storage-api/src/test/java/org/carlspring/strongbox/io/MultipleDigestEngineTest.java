@@ -0,0 +1,84 @@
+package org.carlspring.strongbox.io;
+
+import java.security.MessageDigest;
+import java.util.Random;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MultipleDigestEngineTest
+{
+
+    private static final int CHUNK_SIZE = 16;
+
+    @Test
+    public void digestsShouldMatchAcrossChunkBoundaries()
+        throws Exception
+    {
+        byte[] content = new byte[10 * CHUNK_SIZE + 3];
+        new Random().nextBytes(content);
+
+        MultipleDigestEngine digestEngine = new MultipleDigestEngine(CHUNK_SIZE);
+        digestEngine.addAlgorithm(MessageDigestAlgorithms.MD5);
+        digestEngine.addAlgorithm(MessageDigestAlgorithms.SHA_1);
+
+        // Single bytes, updates which overflow the chunk, and updates larger than the chunk.
+        int off = 0;
+        for (int len : new int[]{ 1, 1, 5, CHUNK_SIZE - 1, 9, CHUNK_SIZE, 2 * CHUNK_SIZE + 1, 0, 7 })
+        {
+            if (len == 1)
+            {
+                digestEngine.update(content[off]);
+            }
+            else
+            {
+                digestEngine.update(content, off, len);
+            }
+            off += len;
+        }
+        digestEngine.update(content, off, content.length - off);
+
+        assertArrayEquals(DigestUtils.md5(content), digestEngine.getMessageDigest(MessageDigestAlgorithms.MD5).digest());
+        assertArrayEquals(DigestUtils.sha1(content), digestEngine.getDigests().get(MessageDigestAlgorithms.SHA_1).digest());
+    }
+
+    @Test
+    public void addedAlgorithmShouldDigestFollowingUpdatesOnly()
+        throws Exception
+    {
+        MultipleDigestEngine digestEngine = new MultipleDigestEngine(CHUNK_SIZE);
+        digestEngine.addAlgorithm(MessageDigestAlgorithms.MD5);
+        digestEngine.update("abc".getBytes(), 0, 3);
+
+        // The pending chunk goes to the algorithms added so far.
+        digestEngine.addAlgorithm(MessageDigestAlgorithms.SHA_1);
+        digestEngine.update("def".getBytes(), 0, 3);
+
+        assertEquals(DigestUtils.md5Hex("abcdef"),
+                     hex(digestEngine.getMessageDigest(MessageDigestAlgorithms.MD5)));
+        assertEquals(DigestUtils.sha1Hex("def"),
+                     hex(digestEngine.getMessageDigest(MessageDigestAlgorithms.SHA_1)));
+    }
+
+    @Test
+    public void engineWithoutAlgorithmsShouldIgnoreUpdates()
+    {
+        MultipleDigestEngine digestEngine = new MultipleDigestEngine(CHUNK_SIZE);
+        digestEngine.update(1);
+        digestEngine.update(new byte[2 * CHUNK_SIZE], 0, 2 * CHUNK_SIZE);
+
+        assertTrue(digestEngine.isEmpty());
+        assertTrue(digestEngine.getDigests().isEmpty());
+    }
+
+    private static String hex(MessageDigest messageDigest)
+    {
+        return Hex.encodeHexString(messageDigest.digest());
+    }
+
+}
@@ -0,0 +1,95 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HazelcastReadWriteLockProviderTest
+{
+
+    private static final String LOCK_NAME = "strongbox:/storage0/releases/a.jar";
+
+    private final String clusterName = "hrwlp-" + UUID.randomUUID();
+
+    private ExecutorService executor;
+
+
+    @BeforeEach
+    public void setUp()
+    {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        executor.shutdownNow();
+        Hazelcast.getAllHazelcastInstances()
+                 .stream()
+                 .filter(i -> clusterName.equals(i.getConfig().getGroupConfig().getName()))
+                 .forEach(HazelcastInstance::shutdown);
+    }
+
+    @Test
+    public void lockHeldAcrossMembershipChangeShouldBeVisibleToJoiningMember()
+        throws Exception
+    {
+        HazelcastReadWriteLockProvider firstLockProvider = lockProvider(newMember(true));
+
+        Lock writeLock = firstLockProvider.getReadWriteLock(LOCK_NAME).writeLock();
+        writeLock.lock();
+        try
+        {
+            HazelcastInstance secondMember = newMember(true);
+            assertEquals(2, secondMember.getCluster().getMembers().size());
+
+            Lock readLock = lockProvider(secondMember).getReadWriteLock(LOCK_NAME).readLock();
+            assertFalse(executor.submit(() -> readLock.tryLock(100, TimeUnit.MILLISECONDS)).get());
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Test
+    public void standaloneMemberShouldUseLocalLocks()
+    {
+        HazelcastReadWriteLockProvider lockProvider = lockProvider(newMember(false));
+
+        assertSame(lockProvider.getReadWriteLock(LOCK_NAME), lockProvider.getReadWriteLock(LOCK_NAME));
+        assertTrue(lockProvider.getReadWriteLock(LOCK_NAME) instanceof LocalReadWriteLockProvider.LocalReadWriteLock);
+    }
+
+    private HazelcastInstance newMember(boolean clustered)
+    {
+        Config config = new Config().setInstanceName(clusterName + "-" + UUID.randomUUID());
+        config.getGroupConfig().setName(clusterName);
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        config.getNetworkConfig().getJoin().getTcpIpConfig().setEnabled(clustered).addMember("127.0.0.1");
+
+        return Hazelcast.newHazelcastInstance(config);
+    }
+
+    private HazelcastReadWriteLockProvider lockProvider(HazelcastInstance hazelcastInstance)
+    {
+        HazelcastReadWriteLockProvider lockProvider = new HazelcastReadWriteLockProvider();
+        lockProvider.setHazelcastInstance(hazelcastInstance);
+
+        return lockProvider;
+    }
+
+}
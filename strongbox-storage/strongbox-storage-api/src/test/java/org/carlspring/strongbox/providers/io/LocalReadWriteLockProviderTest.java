@@ -0,0 +1,68 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalReadWriteLockProviderTest
+{
+
+    private LocalReadWriteLockProvider lockProvider;
+
+    private ExecutorService executor;
+
+
+    @BeforeEach
+    public void setUp()
+    {
+        lockProvider = new LocalReadWriteLockProvider();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void sameNameShouldReferToSameLock()
+    {
+        assertSame(lockProvider.getReadWriteLock("strongbox:/storage0/releases/a.jar"),
+                   lockProvider.getReadWriteLock("strongbox:/storage0/releases/a.jar"));
+    }
+
+    @Test
+    public void writeLockShouldExcludeReadersOfSameNameOnly()
+        throws Exception
+    {
+        Lock writeLock = lockProvider.getReadWriteLock("strongbox:/storage0/releases/a.jar").writeLock();
+        writeLock.lock();
+        try
+        {
+            Lock sameReadLock = lockProvider.getReadWriteLock("strongbox:/storage0/releases/a.jar").readLock();
+            Lock otherReadLock = lockProvider.getReadWriteLock("strongbox:/storage0/releases/b.jar").readLock();
+
+            assertFalse(executor.submit(() -> sameReadLock.tryLock(100, TimeUnit.MILLISECONDS)).get());
+            assertTrue(executor.submit(() -> {
+                boolean locked = otherReadLock.tryLock(100, TimeUnit.MILLISECONDS);
+                otherReadLock.unlock();
+
+                return locked;
+            }).get());
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+}
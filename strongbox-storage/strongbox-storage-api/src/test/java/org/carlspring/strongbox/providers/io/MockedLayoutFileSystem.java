@@ -0,0 +1,36 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.util.Set;
+
+/**
+ * {@link LayoutFileSystem} on top of the default file system, for the tests which don't need any layout specific
+ * logic.
+ */
+public class MockedLayoutFileSystem
+        extends LayoutFileSystem
+{
+
+    public MockedLayoutFileSystem(Repository repository,
+                                  FileSystem storageFileSystem,
+                                  StorageFileSystemProvider provider)
+    {
+        super(repository, storageFileSystem, provider);
+    }
+
+    public MockedLayoutFileSystem(Repository repository,
+                                  StorageFileSystemProvider provider)
+    {
+        this(repository, FileSystems.getDefault(), provider);
+    }
+
+    @Override
+    public Set<String> getDigestAlgorithmSet()
+    {
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -0,0 +1,130 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.storage.MutableStorage;
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RepositoryFileSystemRegistryTest
+{
+
+    private static final String LAYOUT = "rfsr-layout";
+
+    private RepositoryFileSystemRegistry registry;
+
+    private ExecutorService executor;
+
+
+    @BeforeEach
+    public void setUp()
+    {
+        registry = new RepositoryFileSystemRegistry();
+        registry.setFyleSystemFactories(Collections.singletonMap("LayoutFileSystemFactory." + LAYOUT,
+                                                                 r -> new MockedLayoutFileSystem(r, null)));
+
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void fileSystemShouldBeCachedPerRepository()
+    {
+        Repository repository = createConfigurationSnapshot();
+
+        LayoutFileSystem fileSystem = registry.lookupRepositoryFileSystem(repository);
+
+        assertSame(repository, fileSystem.getRepository());
+        assertSame(fileSystem, registry.lookupRepositoryFileSystem(repository));
+    }
+
+    @Test
+    public void staleFileSystemCachedAfterInvalidateShouldBeReplaced()
+    {
+        Repository previousRepository = createConfigurationSnapshot();
+        registry.lookupRepositoryFileSystem(previousRepository);
+
+        Repository currentRepository = createConfigurationSnapshot();
+        registry.invalidate();
+
+        // A lookup with the Repository of the previous configuration caches its file system again.
+        LayoutFileSystem staleFileSystem = registry.lookupRepositoryFileSystem(previousRepository);
+        assertSame(previousRepository, staleFileSystem.getRepository());
+
+        LayoutFileSystem fileSystem = registry.lookupRepositoryFileSystem(currentRepository);
+
+        assertNotSame(staleFileSystem, fileSystem);
+        assertSame(currentRepository, fileSystem.getRepository());
+        assertSame(fileSystem, registry.lookupRepositoryFileSystem(currentRepository));
+    }
+
+    @Test
+    public void concurrentLookupsWithPreviousRepositoryShouldNotLeakIntoCurrentOne()
+        throws Exception
+    {
+        Repository previousRepository = createConfigurationSnapshot();
+        Repository currentRepository = createConfigurationSnapshot();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++)
+        {
+            Repository repository = i % 2 == 0 ? previousRepository : currentRepository;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 1000; j++)
+                {
+                    if (j % 100 == 0)
+                    {
+                        registry.invalidate();
+                    }
+
+                    assertSame(repository, registry.lookupRepositoryFileSystem(repository).getRepository());
+                }
+
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures)
+        {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        assertSame(currentRepository, registry.lookupRepositoryFileSystem(currentRepository).getRepository());
+    }
+
+    private Repository createConfigurationSnapshot()
+    {
+        MutableRepository repository = new MutableRepository("rfsr-releases");
+        repository.setLayout(LAYOUT);
+        repository.setBasedir(new File("target/strongbox-vault/storages/rfsr-storage/rfsr-releases").getAbsolutePath());
+
+        MutableStorage storage = new MutableStorage("rfsr-storage");
+        storage.addRepository(repository);
+
+        return new Storage(storage).getRepository(repository.getId());
+    }
+
+}
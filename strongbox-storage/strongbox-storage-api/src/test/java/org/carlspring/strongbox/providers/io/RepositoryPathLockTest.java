@@ -0,0 +1,250 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.StorageApiTestConfig;
+import org.carlspring.strongbox.artifact.coordinates.NullArtifactCoordinates;
+import org.carlspring.strongbox.storage.MutableStorage;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryPolicyEnum;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = StorageApiTestConfig.class)
+public class RepositoryPathLockTest
+{
+
+    private static final Path STORAGE_BASEDIR = Paths.get(new File("target/strongbox-vault/storages/rpl-storage").getAbsolutePath());
+
+    private static final String ARTIFACT_GROUP = "org/carlspring/strongbox/rpl-artifact";
+
+    private static final String ARTIFACT_PATH = ARTIFACT_GROUP + "/1.0/rpl-artifact-1.0.jar";
+
+    private static final String SOURCES_PATH = ARTIFACT_GROUP + "/1.0/rpl-artifact-1.0-sources.jar";
+
+    private static final String CHECKSUM_PATH = ARTIFACT_PATH + ".sha1";
+
+    @Inject
+    private RepositoryPathLock repositoryPathLock;
+
+    private ExecutorService writer;
+
+    private ExecutorService reader;
+
+
+    @BeforeEach
+    public void setUp()
+    {
+        writer = Executors.newSingleThreadExecutor();
+        reader = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        writer.shutdownNow();
+        reader.shutdownNow();
+    }
+
+    @Test
+    public void siblingArtifactsAndChecksumsShouldBeReadableWhileArtifactIsWritten()
+        throws Exception
+    {
+        RootRepositoryPath root = createRoot("rpl-mixed", RepositoryPolicyEnum.MIXED, true);
+
+        Lock writeLock = repositoryPathLock.lock(root.resolve(ARTIFACT_PATH)).writeLock();
+        assertTrue(writer.submit(() -> writeLock.tryLock(1, TimeUnit.SECONDS)).get());
+        try
+        {
+            assertFalse(tryReadLock(root.resolve(ARTIFACT_PATH)));
+            assertTrue(tryReadLock(root.resolve(SOURCES_PATH)));
+            assertTrue(tryReadLock(root.resolve(CHECKSUM_PATH)));
+        }
+        finally
+        {
+            writer.submit(writeLock::unlock).get();
+        }
+
+        assertTrue(tryReadLock(root.resolve(ARTIFACT_PATH)));
+    }
+
+    @Test
+    public void siblingArtifactsShouldNotBeWrittenConcurrently()
+        throws Exception
+    {
+        RootRepositoryPath root = createRoot("rpl-mixed", RepositoryPolicyEnum.MIXED, true);
+
+        Lock writeLock = repositoryPathLock.lock(root.resolve(ARTIFACT_PATH)).writeLock();
+        assertTrue(writer.submit(() -> writeLock.tryLock(1, TimeUnit.SECONDS)).get());
+        try
+        {
+            Lock siblingWriteLock = repositoryPathLock.lock(root.resolve(SOURCES_PATH)).writeLock();
+            assertFalse(reader.submit(() -> siblingWriteLock.tryLock(100, TimeUnit.MILLISECONDS)).get());
+        }
+        finally
+        {
+            writer.submit(writeLock::unlock).get();
+        }
+    }
+
+    @Test
+    public void immutableReleaseArtifactsShouldBeReadWithoutLock()
+        throws Exception
+    {
+        RootRepositoryPath root = createRoot("rpl-releases", RepositoryPolicyEnum.RELEASE, false);
+
+        Lock writeLock = repositoryPathLock.lock(root.resolve(ARTIFACT_PATH)).writeLock();
+        assertTrue(writer.submit(() -> writeLock.tryLock(1, TimeUnit.SECONDS)).get());
+        try
+        {
+            assertTrue(tryReadLock(root.resolve(ARTIFACT_PATH)));
+        }
+        finally
+        {
+            writer.submit(writeLock::unlock).get();
+        }
+    }
+
+    @Test
+    public void artifactWriteLockConditionShouldReleaseOnlyThePath()
+        throws Exception
+    {
+        RootRepositoryPath root = createRoot("rpl-mixed", RepositoryPolicyEnum.MIXED, true);
+
+        Lock writeLock = repositoryPathLock.lock(root.resolve(ARTIFACT_PATH)).writeLock();
+        CountDownLatch awaiting = new CountDownLatch(1);
+        Future<Boolean> signalled = writer.submit(() -> {
+            writeLock.lock();
+            try
+            {
+                Condition condition = writeLock.newCondition();
+                awaiting.countDown();
+
+                return condition.await(500, TimeUnit.MILLISECONDS);
+            }
+            finally
+            {
+                writeLock.unlock();
+            }
+        });
+
+        assertTrue(awaiting.await(1, TimeUnit.SECONDS));
+
+        // The ArtifactIdGroup is still locked while the path is released by the wait.
+        Lock siblingWriteLock = repositoryPathLock.lock(root.resolve(SOURCES_PATH)).writeLock();
+        assertFalse(reader.submit(() -> siblingWriteLock.tryLock(100, TimeUnit.MILLISECONDS)).get());
+
+        assertFalse(signalled.get(1, TimeUnit.SECONDS));
+        assertTrue(tryReadLock(root.resolve(ARTIFACT_PATH)));
+    }
+
+    @Test
+    public void immutableReleaseArtifactsReadLockConditionShouldNotWait()
+        throws Exception
+    {
+        RootRepositoryPath root = createRoot("rpl-releases", RepositoryPolicyEnum.RELEASE, false);
+
+        Lock readLock = repositoryPathLock.lock(root.resolve(ARTIFACT_PATH)).readLock();
+        readLock.lock();
+        try
+        {
+            assertTrue(readLock.newCondition().await(1, TimeUnit.MINUTES));
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    private boolean tryReadLock(RepositoryPath path)
+        throws Exception
+    {
+        Lock readLock = repositoryPathLock.lock(path).readLock();
+
+        return reader.submit(() -> {
+            if (!readLock.tryLock(100, TimeUnit.MILLISECONDS))
+            {
+                return false;
+            }
+            readLock.unlock();
+
+            return true;
+        }).get();
+    }
+
+    private RootRepositoryPath createRoot(String repositoryId,
+                                          RepositoryPolicyEnum policy,
+                                          boolean allowsRedeployment)
+    {
+        MutableStorage storage = new MutableStorage("rpl-storage", STORAGE_BASEDIR.toString());
+
+        MutableRepository repository = new MutableRepository(repositoryId);
+        repository.setBasedir(STORAGE_BASEDIR.resolve(repositoryId).toString());
+        repository.setPolicy(policy.getPolicy());
+        repository.setAllowsRedeployment(allowsRedeployment);
+        repository.setStorage(storage);
+
+        StorageFileSystemProvider provider = new StorageFileSystemProvider(FileSystems.getDefault().provider())
+        {
+            @Override
+            protected Map<RepositoryFileAttributeType, Object> getRepositoryFileAttributes(RepositoryPath path,
+                                                                                           RepositoryFileAttributeType... attributeTypes)
+                throws IOException
+            {
+                boolean artifact = path.getFileName().toString().endsWith(".jar");
+
+                Map<RepositoryFileAttributeType, Object> result = new HashMap<>();
+                for (RepositoryFileAttributeType attributeType : Arrays.asList(attributeTypes))
+                {
+                    switch (attributeType)
+                    {
+                        case ARTIFACT:
+                            result.put(attributeType, artifact);
+                            break;
+                        case COORDINATES:
+                            if (artifact)
+                            {
+                                result.put(attributeType, new NullArtifactCoordinates(ARTIFACT_GROUP));
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                }
+
+                return result;
+            }
+        };
+
+        LayoutFileSystem fileSystem = new MockedLayoutFileSystem(new Repository(repository), provider);
+
+        return fileSystem.getRootDirectory();
+    }
+
+}
@@ -4,10 +4,8 @@ import org.carlspring.strongbox.storage.repository.MutableRepository;
 import org.carlspring.strongbox.storage.repository.Repository;
 
 import java.io.File;
-import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Set;
 
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,14 +32,7 @@ public class RepositoryPathTest
         repository = new MutableRepository();
         repository.setBasedir(REPOSITORY_BASEDIR.toAbsolutePath().toString());
 
-        repositoryFileSystem = new LayoutFileSystem(new Repository(repository), FileSystems.getDefault(), null)
-        {
-            @Override
-            public Set<String> getDigestAlgorithmSet()
-            {
-                throw new UnsupportedOperationException();
-            }
-        };
+        repositoryFileSystem = new MockedLayoutFileSystem(new Repository(repository), null);
     }
 
     @Test
@@ -0,0 +1,210 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GroupRepositoryProviderParallelResolutionTest
+{
+
+    private static final int THREADS = 2;
+
+    private final Map<RepositoryPath, Callable<RepositoryPath>> members = new ConcurrentHashMap<>();
+
+    private final Queue<RepositoryPath> queriedMembers = new ConcurrentLinkedQueue<>();
+
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    private GroupRepositoryProvider groupRepositoryProvider;
+
+
+    @BeforeEach
+    public void setUp()
+    {
+        groupRepositoryProvider = new GroupRepositoryProvider()
+        {
+
+            @Override
+            protected RepositoryPath resolvePathFromGroupMemberOrTraverse(RepositoryPath repositoryPath)
+                throws IOException
+            {
+                queriedMembers.add(repositoryPath);
+                try
+                {
+                    return members.get(repositoryPath).call();
+                }
+                catch (IOException | RuntimeException e)
+                {
+                    throw e;
+                }
+                catch (Exception e)
+                {
+                    throw new IOException(e);
+                }
+            }
+
+        };
+        ReflectionTestUtils.setField(groupRepositoryProvider, "parallelResolution", true);
+        ReflectionTestUtils.setField(groupRepositoryProvider, "parallelResolutionThreads", THREADS);
+        groupRepositoryProvider.afterPropertiesSet();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        released.countDown();
+        groupRepositoryProvider.destroy();
+    }
+
+    @Test
+    public void localHitShouldNotTakePrecedenceOverPrecedingProxyMembers()
+        throws Exception
+    {
+        RepositoryPath proxyResult = hit();
+        RepositoryPath missingProxyPath = member(true, () -> null);
+        RepositoryPath proxyPath = member(true, () -> proxyResult);
+        RepositoryPath hostedPath = member(false, this::hit);
+        RepositoryPath followingProxyPath = member(true, this::hit);
+
+        assertSame(proxyResult, groupRepositoryProvider.resolvePathInParallel(Arrays.asList(missingProxyPath,
+                                                                                            proxyPath,
+                                                                                            hostedPath,
+                                                                                            followingProxyPath)));
+
+        // The hosted member is queried first, and the proxy members after it are left out.
+        assertSame(hostedPath, queriedMembers.peek());
+        assertFalse(queriedMembers.contains(followingProxyPath));
+    }
+
+    @Test
+    public void localHitShouldBeReturnedOnceProxyMembersMiss()
+        throws Exception
+    {
+        RepositoryPath localResult = hit();
+        RepositoryPath proxyPath = member(true, () -> null);
+        RepositoryPath hostedPath = member(false, () -> localResult);
+
+        assertSame(localResult, groupRepositoryProvider.resolvePathInParallel(Arrays.asList(proxyPath, hostedPath)));
+        assertEquals(2, queriedMembers.size());
+    }
+
+    @Test
+    public void firstHitShouldNotWaitForNorInterruptFollowingMembers()
+        throws Exception
+    {
+        RepositoryPath proxyResult = hit();
+        CountDownLatch followingMemberStarted = new CountDownLatch(1);
+        AtomicBoolean followingMemberInterrupted = new AtomicBoolean();
+        CountDownLatch followingMemberCompleted = new CountDownLatch(1);
+
+        RepositoryPath proxyPath = member(true, () -> {
+            followingMemberStarted.await(10, TimeUnit.SECONDS);
+
+            return proxyResult;
+        });
+        RepositoryPath followingProxyPath = member(true, () -> {
+            followingMemberStarted.countDown();
+            try
+            {
+                released.await();
+            }
+            catch (InterruptedException e)
+            {
+                followingMemberInterrupted.set(true);
+            }
+            followingMemberCompleted.countDown();
+
+            return hit();
+        });
+
+        assertSame(proxyResult,
+                   groupRepositoryProvider.resolvePathInParallel(Arrays.asList(proxyPath, followingProxyPath)));
+
+        // The running member is cancelled without an interrupt, so that it can complete its download.
+        released.countDown();
+        assertTrue(followingMemberCompleted.await(10, TimeUnit.SECONDS));
+        assertFalse(followingMemberInterrupted.get());
+    }
+
+    @Test
+    public void saturatedPoolShouldResolveMembersInCallingThread()
+        throws Exception
+    {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(groupRepositoryProvider,
+                                                                                        "proxyMemberExecutor");
+        // The pool threads and then the queue are held by the tasks which wait for the release.
+        for (int i = 0; i < THREADS; i++)
+        {
+            executor.execute(this::awaitReleased);
+        }
+        while (executor.getQueue().remainingCapacity() > 0)
+        {
+            executor.execute(this::awaitReleased);
+        }
+
+        AtomicReference<Thread> memberThread = new AtomicReference<>();
+        RepositoryPath proxyPath = member(true, () -> {
+            memberThread.set(Thread.currentThread());
+
+            return null;
+        });
+
+        assertNull(groupRepositoryProvider.resolvePathInParallel(Arrays.asList(proxyPath)));
+        assertSame(Thread.currentThread(), memberThread.get());
+    }
+
+    private RepositoryPath member(boolean proxy,
+                                  Callable<RepositoryPath> resolution)
+    {
+        Repository repository = mock(Repository.class);
+        when(repository.isProxyRepository()).thenReturn(proxy);
+
+        RepositoryPath repositoryPath = mock(RepositoryPath.class);
+        when(repositoryPath.getRepository()).thenReturn(repository);
+        members.put(repositoryPath, resolution);
+
+        return repositoryPath;
+    }
+
+    private RepositoryPath hit()
+    {
+        return mock(RepositoryPath.class);
+    }
+
+    private void awaitReleased()
+    {
+        try
+        {
+            released.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import org.carlspring.strongbox.artifact.ArtifactNotFoundException;
+import org.carlspring.strongbox.providers.io.LayoutFileSystem;
+import org.carlspring.strongbox.providers.io.MockedLayoutFileSystem;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.StorageFileSystemProvider;
+import org.carlspring.strongbox.storage.MutableStorage;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ProxyRepositoryDownloadTest
+{
+
+    private static final Path STORAGE_BASEDIR = Paths.get(new File("target/strongbox-vault/storages/prd-storage").getAbsolutePath());
+
+    private static final String ARTIFACT_PATH = "org/carlspring/strongbox/prd-artifact/1.0/prd-artifact-1.0.jar";
+
+    private ExecutorService executor;
+
+
+    @BeforeEach
+    public void setUp()
+    {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void readersShouldReceiveBytesBeforeDownloadCompletes()
+        throws Exception
+    {
+        ProxyRepositoryDownload download = new ProxyRepositoryDownload(resolve(ARTIFACT_PATH));
+
+        PipedOutputStream remote = new PipedOutputStream();
+        PipedInputStream remoteInputStream = new PipedInputStream(remote);
+        Future<?> transfer = executor.submit(() -> {
+            download.transfer(remoteInputStream);
+
+            return null;
+        });
+        download.awaitConnected();
+
+        remote.write(new byte[]{ 1, 2, 3 });
+        remote.flush();
+
+        try (InputStream first = download.newInputStream())
+        {
+            byte[] head = new byte[3];
+            assertEquals(3, first.read(head));
+            assertArrayEquals(new byte[]{ 1, 2, 3 }, head);
+
+            Future<byte[]> joined = executor.submit(() -> readFully(download.newInputStream()));
+
+            remote.write(new byte[]{ 4, 5 });
+            remote.close();
+            transfer.get(5, TimeUnit.SECONDS);
+
+            assertArrayEquals(new byte[]{ 4, 5 }, readFully(first));
+            assertArrayEquals(new byte[]{ 1, 2, 3, 4, 5 }, joined.get(5, TimeUnit.SECONDS));
+        }
+
+        download.release();
+
+        assertNull(download.newInputStream());
+        assertFalse(Files.exists(spoolFile(ARTIFACT_PATH)));
+    }
+
+    @Test
+    public void missingRemoteResourceShouldBeReportedToWaiters()
+        throws Exception
+    {
+        ProxyRepositoryDownload download = new ProxyRepositoryDownload(resolve(ARTIFACT_PATH));
+
+        download.fail(new ArtifactNotFoundException(URI.create(ARTIFACT_PATH)));
+
+        assertThrows(ArtifactNotFoundException.class, download::awaitConnected);
+    }
+
+    private byte[] readFully(InputStream is)
+        throws IOException
+    {
+        try (InputStream source = is)
+        {
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            byte[] buffer = new byte[2];
+            int n;
+            while ((n = source.read(buffer)) != -1)
+            {
+                result.write(buffer, 0, n);
+            }
+
+            return result.toByteArray();
+        }
+    }
+
+    private Path spoolFile(String path)
+    {
+        return STORAGE_BASEDIR.resolve("prd-proxy").resolve(LayoutFileSystem.TEMP).resolve(path + ".part");
+    }
+
+    private RepositoryPath resolve(String path)
+    {
+        MutableStorage storage = new MutableStorage("prd-storage", STORAGE_BASEDIR.toString());
+
+        MutableRepository repository = new MutableRepository("prd-proxy");
+        repository.setBasedir(STORAGE_BASEDIR.resolve("prd-proxy").toString());
+        repository.setStorage(storage);
+
+        StorageFileSystemProvider provider = new StorageFileSystemProvider(FileSystems.getDefault().provider());
+        LayoutFileSystem fileSystem = new MockedLayoutFileSystem(new Repository(repository), provider);
+
+        return fileSystem.getRootDirectory().resolve(path);
+    }
+
+}
@@ -9,6 +9,8 @@ import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.services.ArtifactEntryService;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -229,6 +231,51 @@ public class ArtifactEntryServiceTest
         assertThat(entries.size(), CoreMatchers.equalTo(all - 1));
     }
 
+    @Test
+    public void keysetPagesShouldMatchOffsetPages()
+    {
+        artifactEntryService.deleteAll();
+        for (int i = 0; i < 10; i++)
+        {
+            createArtifactEntry(new NullArtifactCoordinates(String.format("%s/%s/%s/%s", groupId, artifactId + i,
+                                                                          "1.2.3", "jar")),
+                                storageId,
+                                repositoryId);
+        }
+
+        List<String> offsetPages = new ArrayList<>();
+        List<String> keysetPages = new ArrayList<>();
+        List<String> keysetArtifactListPages = new ArrayList<>();
+        String after = null;
+        String artifactListAfter = null;
+        for (int skip = 0; skip < 12; skip += 3)
+        {
+            artifactEntryService.findMatching(anArtifactEntrySearchCriteria().build(),
+                                              new PagingCriteria(skip, 3))
+                                .forEach(e -> offsetPages.add(e.getUuid()));
+
+            List<ArtifactEntry> keysetPage = artifactEntryService.findMatching(anArtifactEntrySearchCriteria().build(),
+                                                                               PagingCriteria.after(after, 3));
+            keysetPage.forEach(e -> keysetPages.add(e.getUuid()));
+            after = keysetPage.isEmpty() ? after : keysetPage.get(keysetPage.size() - 1).getUuid();
+
+            List<ArtifactEntry> keysetArtifactListPage = artifactEntryService.findArtifactList(storageId,
+                                                                                               repositoryId,
+                                                                                               Collections.emptyMap(),
+                                                                                               Collections.emptySet(),
+                                                                                               PagingCriteria.after(artifactListAfter,
+                                                                                                                    3),
+                                                                                               true);
+            keysetArtifactListPage.forEach(e -> keysetArtifactListPages.add(e.getUuid()));
+            artifactListAfter = keysetArtifactListPage.isEmpty() ? artifactListAfter
+                    : keysetArtifactListPage.get(keysetArtifactListPage.size() - 1).getUuid();
+        }
+
+        assertEquals(10, offsetPages.size());
+        assertEquals(offsetPages, keysetPages);
+        assertEquals(offsetPages, keysetArtifactListPages);
+    }
+
     /**
      * Make sure that we are able to search artifacts by single coordinate.
      *
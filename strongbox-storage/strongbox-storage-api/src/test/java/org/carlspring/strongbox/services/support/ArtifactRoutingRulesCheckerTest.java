@@ -0,0 +1,151 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRule;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRules;
+import org.carlspring.strongbox.storage.routing.MutableRuleSet;
+import org.carlspring.strongbox.storage.routing.RoutingRules;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ArtifactRoutingRulesCheckerTest
+{
+
+    private static final String GROUP_WITH_RULES = "group-with-rules";
+
+    private static final String GROUP_WITHOUT_RULES = "group-without-rules";
+
+    private static final String RELEASES = "releases";
+
+    private static final String SNAPSHOTS = "snapshots";
+
+    private Configuration configuration;
+
+    private ArtifactRoutingRulesChecker checker;
+
+
+    @BeforeEach
+    public void setUp()
+    {
+        MutableRoutingRules routingRules = new MutableRoutingRules();
+        routingRules.addDenyRule(RoutingRules.WILDCARD,
+                                 ruleSet(RoutingRules.WILDCARD, rule(".*/denied-everywhere/.*", RELEASES)));
+        routingRules.addAcceptRule(RoutingRules.WILDCARD,
+                                   ruleSet(RoutingRules.WILDCARD, rule(".*/denied-everywhere/accepted/.*", RELEASES)));
+        routingRules.addDenyRule(GROUP_WITH_RULES,
+                                 ruleSet(GROUP_WITH_RULES, rule(".*/denied-in-group/.*", RELEASES, SNAPSHOTS)));
+        routingRules.addAcceptRule(GROUP_WITH_RULES,
+                                   ruleSet(GROUP_WITH_RULES, rule(".*/denied-in-group/accepted/.*", SNAPSHOTS)));
+
+        configuration = mock(Configuration.class);
+        when(configuration.getRoutingRules()).thenReturn(new RoutingRules(routingRules));
+
+        ConfigurationManager configurationManager = mock(ConfigurationManager.class);
+        when(configurationManager.getConfiguration()).thenAnswer(invocation -> configuration);
+
+        checker = new ArtifactRoutingRulesChecker();
+        ReflectionTestUtils.setField(checker, "configurationManager", configurationManager);
+    }
+
+    @Test
+    public void wildcardRulesShouldApplyToEveryGroup()
+        throws Exception
+    {
+        for (String groupRepositoryId : Arrays.asList(GROUP_WITH_RULES, GROUP_WITHOUT_RULES))
+        {
+            assertTrue(checker.isDenied(groupRepositoryId, path(RELEASES, "org/denied-everywhere/a.jar")));
+            assertTrue(checker.isAccepted(groupRepositoryId, path(RELEASES, "org/denied-everywhere/accepted/a.jar")));
+            assertTrue(checker.isAccepted(groupRepositoryId, path(SNAPSHOTS, "org/denied-everywhere/a.jar")));
+            assertTrue(checker.isAccepted(groupRepositoryId, path(RELEASES, "org/other/a.jar")));
+        }
+    }
+
+    @Test
+    public void groupRulesShouldApplyToTheirGroupOnly()
+        throws Exception
+    {
+        assertTrue(checker.isDenied(GROUP_WITH_RULES, path(RELEASES, "org/denied-in-group/a.jar")));
+        assertTrue(checker.isDenied(GROUP_WITH_RULES, path(SNAPSHOTS, "org/denied-in-group/a.jar")));
+        assertTrue(checker.isAccepted(GROUP_WITHOUT_RULES, path(RELEASES, "org/denied-in-group/a.jar")));
+        assertTrue(checker.isAccepted(GROUP_WITHOUT_RULES, path(SNAPSHOTS, "org/denied-in-group/a.jar")));
+
+        // The accept rule overrides the deny rule for its own repositories only.
+        assertTrue(checker.isAccepted(GROUP_WITH_RULES, path(SNAPSHOTS, "org/denied-in-group/accepted/a.jar")));
+        assertTrue(checker.isDenied(GROUP_WITH_RULES, path(RELEASES, "org/denied-in-group/accepted/a.jar")));
+    }
+
+    @Test
+    public void indexShouldBeRebuiltOnceConfigurationIsReplaced()
+        throws Exception
+    {
+        assertTrue(checker.isDenied(GROUP_WITHOUT_RULES, path(RELEASES, "org/denied-everywhere/a.jar")));
+
+        Object routingRulesIndex = ReflectionTestUtils.getField(checker, "routingRulesIndex");
+        assertTrue(checker.isAccepted(GROUP_WITHOUT_RULES, path(RELEASES, "org/other/a.jar")));
+        assertSame(routingRulesIndex, ReflectionTestUtils.getField(checker, "routingRulesIndex"));
+
+        // The new configuration snapshot comes with new routing rules.
+        MutableRoutingRules routingRules = new MutableRoutingRules();
+        routingRules.addDenyRule(RoutingRules.WILDCARD, ruleSet(RoutingRules.WILDCARD, rule(".*/other/.*", RELEASES)));
+
+        configuration = mock(Configuration.class);
+        when(configuration.getRoutingRules()).thenReturn(new RoutingRules(routingRules));
+
+        assertTrue(checker.isAccepted(GROUP_WITHOUT_RULES, path(RELEASES, "org/denied-everywhere/a.jar")));
+        assertTrue(checker.isDenied(GROUP_WITHOUT_RULES, path(RELEASES, "org/other/a.jar")));
+        assertNotSame(routingRulesIndex, ReflectionTestUtils.getField(checker, "routingRulesIndex"));
+    }
+
+    @Test
+    public void missingRoutingRulesShouldDenyNothing()
+        throws Exception
+    {
+        when(configuration.getRoutingRules()).thenReturn(null);
+
+        assertFalse(checker.isDenied(GROUP_WITH_RULES, path(RELEASES, "org/denied-everywhere/a.jar")));
+    }
+
+    private static MutableRuleSet ruleSet(String groupRepositoryId,
+                                          MutableRoutingRule... rules)
+    {
+        MutableRuleSet ruleSet = new MutableRuleSet();
+        ruleSet.setGroupRepository(groupRepositoryId);
+        ruleSet.setRoutingRules(Arrays.asList(rules));
+
+        return ruleSet;
+    }
+
+    private static MutableRoutingRule rule(String pattern,
+                                           String... repositoryIds)
+    {
+        return new MutableRoutingRule(pattern, new LinkedHashSet<>(Arrays.asList(repositoryIds)));
+    }
+
+    private static RepositoryPath path(String repositoryId,
+                                       String artifactPath)
+    {
+        Repository repository = mock(Repository.class);
+        when(repository.getId()).thenReturn(repositoryId);
+
+        RepositoryPath repositoryPath = mock(RepositoryPath.class);
+        when(repositoryPath.getRepository()).thenReturn(repository);
+        ReflectionTestUtils.setField(repositoryPath, "path", artifactPath);
+
+        return repositoryPath;
+    }
+
+}
@@ -6,29 +6,32 @@ import org.carlspring.strongbox.util.MessageDigestUtils;
 import java.io.IOException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-
-import org.junit.jupiter.api.Disabled;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Ticker;
 import org.junit.jupiter.api.Test;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author mtodorov
  */
-@Disabled
 public class ChecksumCacheManagerTest
 {
 
 
     @Test
     public void testChecksumManagement()
-            throws Exception
     {
         ChecksumCacheManager manager = new ChecksumCacheManager();
-        manager.setCachedChecksumLifetime(3000L);
-        manager.setCachedChecksumExpiredCheckInterval(500L);
-
-        CheckingThread checkerThread = new CheckingThread(manager);
 
         final String artifact1BasePath = "storage0/repositories/snapshots/org/carlspring/maven/test-project/1.0-SNAPSHOT/maven-metadata.xml";
         final String artifact2BasePath = "storage0/repositories/snapshots/org/carlspring/maven/test-project/1.0-SNAPSHOT/test-project-1.0-20131004.115330-1.jar";
@@ -38,113 +41,148 @@ public class ChecksumCacheManagerTest
         manager.addArtifactChecksum(artifact2BasePath, "md5", "eps0#!_)fs0-qWadg#)s1!");
         manager.addArtifactChecksum(artifact2BasePath, "sha1", "eps0#!_)fs0-qWadg#)s1!");
 
-        manager.startMonitor();
+        assertEquals(2, manager.getSize());
+        assertTrue(manager.validateChecksum(artifact1BasePath, "md5", "d0s#3E59jszLsPj3#edp!$"));
+        assertFalse(manager.validateChecksum(artifact1BasePath, "sha1", "eps0#!_)fs0-qWadg#)s1!"));
+
+        manager.removeArtifactChecksum(artifact1BasePath, "md5");
+        assertNull(manager.getArtifactChecksum(artifact1BasePath, "md5"));
+        assertTrue(manager.containsArtifactPath(artifact1BasePath));
 
-        checkerThread.start();
+        // The artifact is removed along with its last checksum.
+        manager.removeArtifactChecksum(artifact1BasePath, "sha1");
+        assertFalse(manager.containsArtifactPath(artifact1BasePath));
+        assertEquals(1, manager.getSize());
+        assertEquals(0, manager.getEvictionCount());
+    }
 
-        Thread.sleep(3000L);
+    @Test
+    public void unclaimedChecksumsShouldExpire()
+    {
+        AtomicLong nanos = new AtomicLong();
+        ChecksumCacheManager manager = new ChecksumCacheManager(100, 3000L, new Ticker()
+        {
+            @Override
+            public long read()
+            {
+                return nanos.get();
+            }
+        });
 
-        manager.getArtifactChecksum(artifact1BasePath, "md5");
+        manager.addArtifactChecksum("artifact-1.jar", "md5", "1");
+        manager.addArtifactChecksum("artifact-2.jar", "md5", "2");
 
-        System.out.println("Slept " + checkerThread.getTimeSlept() + " ms");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertEquals("2", manager.getArtifactChecksum("artifact-2.jar", "md5"));
 
-        if (checkerThread.getTimeSlept() > (checkerThread.getMaxTime() + checkerThread.getTolerance()))
-        {
-            fail("Failed to expire the cache on time!");
-        }
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        manager.removeExpiredChecksums();
 
-        checkerThread.interrupt();
+        assertFalse(manager.containsArtifactPath("artifact-1.jar"));
+        assertTrue(manager.containsArtifactPath("artifact-2.jar"));
+        assertEquals(1, manager.getEvictionCount());
     }
 
     @Test
-    public void testDigests()
-            throws NoSuchAlgorithmException, IOException, CloneNotSupportedException
+    public void checksumsShouldBeBoundedBySize()
     {
-        String s = "This is a test.";
-
-        MessageDigest md5Digest = MessageDigest.getInstance(EncryptionAlgorithmsEnum.MD5.getAlgorithm());
-        MessageDigest sha1Digest = MessageDigest.getInstance(EncryptionAlgorithmsEnum.SHA1.getAlgorithm());
-
-        md5Digest.update(s.getBytes());
-        sha1Digest.update(s.getBytes());
+        ChecksumCacheManager manager = new ChecksumCacheManager(10, ChecksumCacheManager.DEFAULT_CACHED_CHECKSUM_LIFETIME);
 
-        String md5 = MessageDigestUtils.convertToHexadecimalString(md5Digest);
-        String sha1 = MessageDigestUtils.convertToHexadecimalString(sha1Digest);
+        for (int i = 0; i < 100; i++)
+        {
+            manager.addArtifactChecksum("artifact-" + i + ".jar", "md5", String.valueOf(i));
+        }
 
-        assertEquals("120ea8a25e5d487bf68b5f7096440019", md5, "Incorrect MD5 sum!");
-        assertEquals("afa6c8b3a2fae95785dc7d9685a57835d703ac88", sha1, "Incorrect SHA-1 sum!");
+        assertTrue(manager.getSize() <= 10);
+        assertEquals(100 - manager.getSize(), manager.getEvictionCount());
 
-        System.out.println("md5:  " + md5);
-        System.out.println("sha1: " + sha1);
+        assertNotNull(manager.getArtifactChecksum("artifact-99.jar"));
+        assertNull(manager.getArtifactChecksum("artifact-0.jar"));
+        assertEquals(0.5, manager.getHitRate(), 0.0);
     }
 
-    private class CheckingThread extends Thread
+    /**
+     * Deploys the same artifacts from two threads each, one of them adding and validating the MD5 checksums, the other
+     * one the SHA-1 checksums, so that the checksums are added while the other ones of the artifact are removed.
+     */
+    @Test
+    public void checksumsShouldBeValidatedDuringParallelDeploys()
+            throws Exception
     {
-        ChecksumCacheManager manager;
+        final int deployerPairs = 8;
+        final int artifacts = 1000;
 
-        int sleepInterval = 100; // 100 ms
-        int timeSlept;
-        int maxTime = 3000;      // 3 secs
-        int tolerance = 1000;    // 1 sec
+        ChecksumCacheManager manager = new ChecksumCacheManager(deployerPairs * artifacts,
+                                                                ChecksumCacheManager.DEFAULT_CACHED_CHECKSUM_LIFETIME);
 
-        private CheckingThread(ChecksumCacheManager manager)
+        ExecutorService executor = Executors.newFixedThreadPool(deployerPairs * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger invalidChecksums = new AtomicInteger();
+        List<Future<?>> deployers = new ArrayList<>();
+        try
         {
-            this.manager = manager;
-        }
-
-        @Override
-        public void run()
-        {
-
-            try
+            for (int pair = 0; pair < deployerPairs; pair++)
             {
-                while (timeSlept < (maxTime + tolerance))
+                for (String algorithm : Arrays.asList("md5", "sha1"))
                 {
-                    if (manager.getSize() == 1)
-                    {
-                        break; // This was expected
-                    }
-
-                    if (timeSlept > maxTime)
-                    {
-                        System.out.println("The process has exceeded the defined limit of " + maxTime + " by " + (timeSlept - maxTime) + " ms...");
-                    }
-
-                    sleep(sleepInterval);
-                    timeSlept += sleepInterval;
+                    String artifactPrefix = "storage0/releases/pair-" + pair + "/artifact-";
+                    deployers.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < artifacts; i++)
+                        {
+                            String artifactPath = artifactPrefix + i + ".jar";
+                            String checksum = algorithm + "-" + artifactPath;
+
+                            manager.addArtifactChecksum(artifactPath, algorithm, checksum);
+                            if (!manager.validateChecksum(artifactPath, algorithm, checksum))
+                            {
+                                invalidChecksums.incrementAndGet();
+                            }
+                            manager.removeArtifactChecksum(artifactPath, algorithm);
+                        }
+
+                        return null;
+                    }));
                 }
             }
-            catch (InterruptedException e)
+
+            start.countDown();
+            for (Future<?> deployer : deployers)
             {
-                // This is okay.
+                deployer.get(1, TimeUnit.MINUTES);
             }
         }
-
-        public ChecksumCacheManager getManager()
+        finally
         {
-            return manager;
+            executor.shutdownNow();
         }
 
-        public int getSleepInterval()
-        {
-            return sleepInterval;
-        }
+        assertEquals(0, invalidChecksums.get());
+        assertEquals(0, manager.getSize());
+        assertEquals(0, manager.getEvictionCount());
+        assertEquals(1.0, manager.getHitRate(), 0.0);
+    }
 
-        public int getTimeSlept()
-        {
-            return timeSlept;
-        }
+    @Test
+    public void testDigests()
+            throws NoSuchAlgorithmException, IOException, CloneNotSupportedException
+    {
+        String s = "This is a test.";
 
-        public int getMaxTime()
-        {
-            return maxTime;
-        }
+        MessageDigest md5Digest = MessageDigest.getInstance(EncryptionAlgorithmsEnum.MD5.getAlgorithm());
+        MessageDigest sha1Digest = MessageDigest.getInstance(EncryptionAlgorithmsEnum.SHA1.getAlgorithm());
 
-        public int getTolerance()
-        {
-            return tolerance;
-        }
+        md5Digest.update(s.getBytes());
+        sha1Digest.update(s.getBytes());
 
+        String md5 = MessageDigestUtils.convertToHexadecimalString(md5Digest);
+        String sha1 = MessageDigestUtils.convertToHexadecimalString(sha1Digest);
+
+        assertEquals("120ea8a25e5d487bf68b5f7096440019", md5, "Incorrect MD5 sum!");
+        assertEquals("afa6c8b3a2fae95785dc7d9685a57835d703ac88", sha1, "Incorrect SHA-1 sum!");
+
+        System.out.println("md5:  " + md5);
+        System.out.println("sha1: " + sha1);
     }
 
 }
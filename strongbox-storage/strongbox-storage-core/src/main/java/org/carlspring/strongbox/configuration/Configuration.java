@@ -13,6 +13,8 @@ import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedMap;
 import static java.util.stream.Collectors.toMap;
 
@@ -49,6 +51,17 @@ public class Configuration
 
     private final SmtpConfiguration smtpConfiguration;
 
+    /**
+     * The group repositories containing a repository directly, by {@code storageId:repositoryId}.
+     */
+    private final Map<String, List<Repository>> groupRepositoriesContaining;
+
+    /**
+     * The group repositories containing a repository directly or through the nested group repositories, by
+     * {@code storageId:repositoryId}.
+     */
+    private final Map<String, List<Repository>> groupRepositoriesContainingTransitively;
+
     public Configuration(final MutableConfiguration delegate)
     {
 
@@ -66,6 +79,9 @@ public class Configuration
         routingRules = immuteRoutingRules(delegate.getRoutingRules());
         corsConfiguration = immuteCorsConfiguration(delegate.getCorsConfiguration());
         smtpConfiguration = immuteSmtpConfiguration(delegate.getSmtpConfiguration());
+        groupRepositoriesContaining = indexGroupRepositoriesContaining(storages);
+        groupRepositoriesContainingTransitively = indexGroupRepositoriesContainingTransitively(
+                groupRepositoriesContaining);
     }
 
     private ProxyConfiguration immuteProxyConfiguration(final MutableProxyConfiguration source)
@@ -104,6 +120,59 @@ public class Configuration
         return source != null ? new SmtpConfiguration(source) : null;
     }
 
+    private static Map<String, List<Repository>> indexGroupRepositoriesContaining(final Map<String, Storage> storages)
+    {
+        // Members are referenced either as `repositoryId` within the storage of the group, or as
+        // `storageId:repositoryId`.
+        Map<String, Set<Repository>> index = new HashMap<>();
+        for (Storage storage : storages.values())
+        {
+            for (Repository repository : storage.getRepositories().values())
+            {
+                if (!repository.isGroupRepository())
+                {
+                    continue;
+                }
+
+                for (String member : repository.getGroupRepositories().keySet())
+                {
+                    String storageAndRepositoryId = member.contains(":") ? member : storage.getId() + ":" + member;
+                    index.computeIfAbsent(storageAndRepositoryId, k -> new LinkedHashSet<>()).add(repository);
+                }
+            }
+        }
+
+        return ImmutableMap.copyOf(index.entrySet().stream().collect(
+                toMap(Map.Entry::getKey, e -> ImmutableList.copyOf(e.getValue()))));
+    }
+
+    private static Map<String, List<Repository>> indexGroupRepositoriesContainingTransitively(final Map<String, List<Repository>> groupRepositoriesContaining)
+    {
+        Map<String, List<Repository>> index = new HashMap<>();
+        for (String storageAndRepositoryId : groupRepositoriesContaining.keySet())
+        {
+            Set<Repository> result = new LinkedHashSet<>();
+            Deque<String> members = new ArrayDeque<>();
+            members.add(storageAndRepositoryId);
+            while (!members.isEmpty())
+            {
+                for (Repository groupRepository : groupRepositoriesContaining.getOrDefault(members.poll(),
+                                                                                           Collections.emptyList()))
+                {
+                    // The set guards against the cycles in misconfigured groups as well.
+                    if (result.add(groupRepository))
+                    {
+                        members.add(groupRepository.getStorage().getId() + ":" + groupRepository.getId());
+                    }
+                }
+            }
+
+            index.put(storageAndRepositoryId, ImmutableList.copyOf(result));
+        }
+
+        return ImmutableMap.copyOf(index);
+    }
+
     public String getId()
     {
         return id;
@@ -213,26 +282,23 @@ public class Configuration
         return getStorage(storageId).getRepository(repositoryId);
     }
 
+    /**
+     * @return the group repositories which contain the repository directly
+     */
     public List<Repository> getGroupRepositoriesContaining(String storageId,
                                                            String repositoryId)
     {
-        String storageAndRepositoryId = storageId + ":" + repositoryId;
-        List<Repository> groupRepositories = getGroupRepositories();
-        for (Iterator<Repository> it = groupRepositories.iterator(); it.hasNext(); )
-        {
-            Repository repository = it.next();
-            Optional<String> exists = repository.getGroupRepositories()
-                                                .keySet()
-                                                .stream()
-                                                .filter(groupName -> (groupName.equals(storageAndRepositoryId) ||
-                                                                      (repository.getStorage().getId().equals(storageId) && groupName.equals(repositoryId))))
-                                                .findFirst();
-            if (!exists.isPresent())
-            {
-                it.remove();
-            }
-        }
-        return groupRepositories;
+        return groupRepositoriesContaining.getOrDefault(storageId + ":" + repositoryId, Collections.emptyList());
+    }
+
+    /**
+     * @return the group repositories which contain the repository directly or through other group repositories
+     */
+    public List<Repository> getGroupRepositoriesContainingTransitively(String storageId,
+                                                                       String repositoryId)
+    {
+        return groupRepositoriesContainingTransitively.getOrDefault(storageId + ":" + repositoryId,
+                                                                    Collections.emptyList());
     }
 
     public HttpConnectionPool getHttpConnectionPoolConfiguration(String storageId,
@@ -34,6 +34,12 @@ public class MutableRemoteRepositoriesConfiguration
         {
             throw new UnsupportedOperationException("DEFAULT RemoteRepositoriesConfiguration is immutable");
         }
+
+        @Override
+        public void setTeeDownload(boolean teeDownload)
+        {
+            throw new UnsupportedOperationException("DEFAULT RemoteRepositoriesConfiguration is immutable");
+        }
     };
 
     @XmlElement(name = "retry-artifact-download-configuration")
@@ -45,6 +51,12 @@ public class MutableRemoteRepositoriesConfiguration
     @XmlAttribute(name = "heartbeat-threads-number")
     private int heartbeatThreadsNumber = 5;
 
+    /**
+     * Serve proxied artifacts to the clients while they are being downloaded and cached.
+     */
+    @XmlAttribute(name = "tee-download")
+    private boolean teeDownload;
+
     public MutableRemoteRepositoryRetryArtifactDownloadConfiguration getRemoteRepositoryRetryArtifactDownloadConfiguration()
     {
         return remoteRepositoryRetryArtifactDownloadConfiguration;
@@ -74,4 +86,14 @@ public class MutableRemoteRepositoriesConfiguration
     {
         this.heartbeatThreadsNumber = heartbeatThreadsNumber;
     }
+
+    public boolean isTeeDownload()
+    {
+        return teeDownload;
+    }
+
+    public void setTeeDownload(boolean teeDownload)
+    {
+        this.teeDownload = teeDownload;
+    }
 }
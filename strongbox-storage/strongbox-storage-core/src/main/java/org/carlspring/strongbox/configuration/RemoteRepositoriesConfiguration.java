@@ -24,6 +24,8 @@ public class RemoteRepositoriesConfiguration
 
     private int heartbeatThreadsNumber;
 
+    private boolean teeDownload;
+
     RemoteRepositoriesConfiguration()
     {
 
@@ -35,6 +37,7 @@ public class RemoteRepositoriesConfiguration
                 delegate.getRemoteRepositoryRetryArtifactDownloadConfiguration());
         this.checkIntervalSeconds = delegate.getCheckIntervalSeconds();
         this.heartbeatThreadsNumber = delegate.getHeartbeatThreadsNumber();
+        this.teeDownload = delegate.isTeeDownload();
     }
 
     public RemoteRepositoryRetryArtifactDownloadConfiguration getRemoteRepositoryRetryArtifactDownloadConfiguration()
@@ -56,4 +59,9 @@ public class RemoteRepositoriesConfiguration
     {
         return heartbeatThreadsNumber;
     }
+
+    public boolean isTeeDownload()
+    {
+        return teeDownload;
+    }
 }
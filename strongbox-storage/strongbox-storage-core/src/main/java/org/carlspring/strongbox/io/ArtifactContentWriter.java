@@ -0,0 +1,20 @@
+package org.carlspring.strongbox.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the artifact content into the output stream of the artifact path, for the sources which push their content
+ * (such as a decoder) rather than provide an {@link java.io.InputStream}.
+ */
+@FunctionalInterface
+public interface ArtifactContentWriter
+{
+
+    /**
+     * @return the number of bytes written
+     */
+    long writeTo(OutputStream os)
+        throws IOException;
+
+}
@@ -26,6 +26,9 @@ import org.apache.commons.io.input.ProxyInputStream;
  *     ArtifactInputStream aos = (ArtifactInputStream) Files.newInputStream(repositoryPath); 
  * </pre>
  * 
+ * The digests are computed only for the algorithms added to the stream, so the stream of an artifact whose
+ * checksums are already known doesn't need to digest anything.
+ * 
  * @author mtodorov
  * 
  */
@@ -37,7 +40,7 @@ public class LayoutInputStream
                                                                        MessageDigestAlgorithms.SHA_1)
                                                                    .collect(Collectors.toSet()); 
     
-    private Map<String, MessageDigest> digests = new LinkedHashMap<>();
+    private final MultipleDigestEngine digestEngine = new MultipleDigestEngine();
 
     private Map<String, String> hexDigests = new LinkedHashMap<>();
 
@@ -62,19 +65,17 @@ public class LayoutInputStream
     public final void addAlgorithm(String algorithm)
             throws NoSuchAlgorithmException
     {
-        MessageDigest digest = MessageDigest.getInstance(algorithm);
-
-        digests.put(algorithm, digest);
+        digestEngine.addAlgorithm(algorithm);
     }
 
     public MessageDigest getMessageDigest(String algorithm)
     {
-        return digests.get(algorithm);
+        return digestEngine.getMessageDigest(algorithm);
     }
 
     public Map<String, MessageDigest> getDigests()
     {
-        return digests;
+        return digestEngine.getDigests();
     }
 
     public void resetHexDidests()
@@ -87,26 +88,34 @@ public class LayoutInputStream
         return hexDigests;
     }
 
+    /**
+     * @return the digest of the content read so far, or the one put into {@link #getHexDigests()}, or {@code null} if
+     *         the algorithm was not digested
+     */
     public String getMessageDigestAsHexadecimalString(String algorithm)
     {
         if (hexDigests.containsKey(algorithm))
         {
             return hexDigests.get(algorithm);
         }
-        else
-        {
-            // This method will invoke MessageDigest.digest() which will reset the bytes when it's done
-            // and thus this data will no longer be available, so we'll need to cache the calculated digest
-            String hexDigest = MessageDigestUtils.convertToHexadecimalString(getMessageDigest(algorithm));
-            hexDigests.put(algorithm, hexDigest);
 
-            return hexDigest;
+        MessageDigest messageDigest = getMessageDigest(algorithm);
+        if (messageDigest == null)
+        {
+            return null;
         }
+
+        // This method will invoke MessageDigest.digest() which will reset the bytes when it's done
+        // and thus this data will no longer be available, so we'll need to cache the calculated digest
+        String hexDigest = MessageDigestUtils.convertToHexadecimalString(messageDigest);
+        hexDigests.put(algorithm, hexDigest);
+
+        return hexDigest;
     }
 
     public void setDigests(Map<String, MessageDigest> digests)
     {
-        this.digests = digests;
+        digestEngine.setDigests(digests);
     }
 
     @Override
@@ -116,11 +125,7 @@ public class LayoutInputStream
         int ch = in.read();
         if (ch != -1)
         {
-            for (Map.Entry entry : digests.entrySet())
-            {
-                MessageDigest digest = (MessageDigest) entry.getValue();
-                digest.update((byte) ch);
-            }
+            digestEngine.update(ch);
         }
 
         return ch;
@@ -135,11 +140,7 @@ public class LayoutInputStream
         int numberOfBytesRead = in.read(bytes, off, len);
         if (numberOfBytesRead != -1)
         {
-            for (Map.Entry entry : digests.entrySet())
-            {
-                MessageDigest digest = (MessageDigest) entry.getValue();
-                digest.update(bytes, off, numberOfBytesRead);
-            }
+            digestEngine.update(bytes, off, numberOfBytesRead);
         }
 
         return numberOfBytesRead;
@@ -149,15 +150,7 @@ public class LayoutInputStream
     public int read(byte[] bytes)
             throws IOException
     {
-        int len = in.read(bytes);
-
-        for (Map.Entry entry : digests.entrySet())
-        {
-            MessageDigest digest = (MessageDigest) entry.getValue();
-            digest.update(bytes);
-        }
-
-        return len;
+        return read(bytes, 0, bytes.length);
     }
 
     InputStream getTarget()
@@ -6,6 +6,7 @@ import org.carlspring.strongbox.util.MessageDigestUtils;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Map;
 import java.util.function.Function;
@@ -88,17 +89,30 @@ public class LayoutOutputStream extends MultipleDigestOutputStream
     public void write(int b)
         throws IOException
     {
-        super.write(b);
+        for (MessageDigest digest : getDigests().values())
+        {
+            digest.update((byte) b);
+        }
+        out.write(b);
+
         cacheOutputStreamTemplate.apply(o -> o.write(b));
     }
 
+    /**
+     * The digests are updated with the caller's buffer as it is, and the target stream is buffered already.
+     */
     @Override
     public void write(byte[] b,
                       int off,
                       int len)
         throws IOException
     {
-        super.write(b, off, len);
+        for (MessageDigest digest : getDigests().values())
+        {
+            digest.update(b, off, len);
+        }
+        out.write(b, off, len);
+
         cacheOutputStreamTemplate.apply(o -> o.write(b, off, len));
     }
 
@@ -106,8 +120,7 @@ public class LayoutOutputStream extends MultipleDigestOutputStream
     public void write(byte[] b)
             throws IOException
     {
-        super.write(b);
-        cacheOutputStreamTemplate.apply(o -> o.write(b));
+        write(b, 0, b.length);
     }
 
     @Override
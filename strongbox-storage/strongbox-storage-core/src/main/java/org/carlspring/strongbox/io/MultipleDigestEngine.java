@@ -0,0 +1,151 @@
+package org.carlspring.strongbox.io;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Computes several message digests of the same content in a single pass.
+ * <br>
+ * Small updates are accumulated into a chunk, so that every digest is updated once per chunk rather than once per
+ * {@code read} or {@code write} call. The chunk is allocated with the first update, so an engine without algorithms
+ * costs nothing.
+ */
+public class MultipleDigestEngine
+{
+
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final Map<String, MessageDigest> digests = new LinkedHashMap<>();
+
+    private MessageDigest[] digestArray = new MessageDigest[0];
+
+    private final int chunkSize;
+
+    private byte[] chunk;
+
+    private int chunkLength;
+
+    public MultipleDigestEngine()
+    {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public MultipleDigestEngine(int chunkSize)
+    {
+        this.chunkSize = chunkSize;
+    }
+
+    public void addAlgorithm(String algorithm)
+        throws NoSuchAlgorithmException
+    {
+        flush();
+
+        digests.put(algorithm, MessageDigest.getInstance(algorithm));
+        digestArray = digests.values().toArray(new MessageDigest[digests.size()]);
+    }
+
+    public void setDigests(Map<String, MessageDigest> digests)
+    {
+        flush();
+
+        this.digests.clear();
+        this.digests.putAll(digests);
+        digestArray = this.digests.values().toArray(new MessageDigest[this.digests.size()]);
+    }
+
+    public boolean isEmpty()
+    {
+        return digestArray.length == 0;
+    }
+
+    public void update(int b)
+    {
+        if (isEmpty())
+        {
+            return;
+        }
+
+        if (chunk == null)
+        {
+            chunk = new byte[chunkSize];
+        }
+        else if (chunkLength == chunk.length)
+        {
+            flush();
+        }
+
+        chunk[chunkLength++] = (byte) b;
+    }
+
+    public void update(byte[] bytes,
+                       int off,
+                       int len)
+    {
+        if (isEmpty() || len <= 0)
+        {
+            return;
+        }
+
+        if (len >= chunkSize)
+        {
+            flush();
+            updateDigests(bytes, off, len);
+
+            return;
+        }
+
+        if (chunk == null)
+        {
+            chunk = new byte[chunkSize];
+        }
+        else if (chunkLength + len > chunk.length)
+        {
+            flush();
+        }
+
+        System.arraycopy(bytes, off, chunk, chunkLength, len);
+        chunkLength += len;
+    }
+
+    /**
+     * Applies the accumulated chunk to the digests.
+     */
+    public void flush()
+    {
+        if (chunkLength == 0)
+        {
+            return;
+        }
+
+        updateDigests(chunk, 0, chunkLength);
+        chunkLength = 0;
+    }
+
+    private void updateDigests(byte[] bytes,
+                               int off,
+                               int len)
+    {
+        for (MessageDigest digest : digestArray)
+        {
+            digest.update(bytes, off, len);
+        }
+    }
+
+    public MessageDigest getMessageDigest(String algorithm)
+    {
+        flush();
+
+        return digests.get(algorithm);
+    }
+
+    public Map<String, MessageDigest> getDigests()
+    {
+        flush();
+
+        return Collections.unmodifiableMap(digests);
+    }
+
+}
@@ -12,6 +12,12 @@ public class RepositoryStreamContext
 
     private boolean opened;
 
+    /**
+     * The streams which don't read the path itself, like the ones of the proxied artifacts still being downloaded,
+     * don't need to hold the lock of the path.
+     */
+    private boolean pathLockRequired = true;
+
     public Path getPath()
     {
         return path;
@@ -42,4 +48,14 @@ public class RepositoryStreamContext
         this.opened = opened;
     }
 
+    public boolean isPathLockRequired()
+    {
+        return pathLockRequired;
+    }
+
+    public void setPathLockRequired(boolean pathLockRequired)
+    {
+        this.pathLockRequired = pathLockRequired;
+    }
+
 }
@@ -85,6 +85,8 @@ public interface ConfigurationManagementService
 
     void set(MutableRemoteRepositoryRetryArtifactDownloadConfiguration remoteRepositoryRetryArtifactDownloadConfiguration);
 
+    void setTeeDownload(boolean teeDownload);
+
     void addRepositoryArtifactCoordinateValidator(String storageId,
                                                   String repositoryId,
                                                   String alias);
@@ -45,6 +45,9 @@ public class MavenArtifactMetadataStoredEventListener
             return;
         }
 
+        // The metadata may have been stored bypassing the MavenMetadataManager.
+        mavenMetadataManager.invalidateMetadata(event.getPath());
+
         if (!maven2LayoutProvider.requiresGroupAggregation(event.getPath()))
         {
             return;
@@ -20,12 +20,18 @@ import javax.inject.Inject;
 import java.io.*;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.maven.artifact.repository.metadata.Metadata;
 import org.apache.maven.artifact.repository.metadata.Plugin;
@@ -52,6 +58,8 @@ import static org.carlspring.strongbox.providers.layout.LayoutProviderRegistry.g
 public class MavenMetadataManager
 {
 
+    public static final int METADATA_CACHE_SIZE = 1000;
+
     private static final Logger logger = LoggerFactory.getLogger(MavenMetadataManager.class);
 
     @Inject
@@ -60,6 +68,12 @@ public class MavenMetadataManager
     @Inject
     private RepositoryPathLock repositoryPathLock;
 
+    private final Cache<Path, CachedMetadata> metadataCache = CacheBuilder.newBuilder()
+                                                                          .maximumSize(METADATA_CACHE_SIZE)
+                                                                          .build();
+
+    private final AtomicLong metadataInvalidationCount = new AtomicLong();
+
 
     public Metadata readMetadata(MavenArtifact artifact)
             throws IOException,
@@ -88,20 +102,54 @@ public class MavenMetadataManager
         return readMetadata(artifactBasePath);
     }
 
+    /**
+     * Parsed metadata is cached by its path, and is parsed again only if the file was changed. The callers get their
+     * own copy, which they are free to modify.
+     */
     public Metadata readMetadata(Path artifactBasePath)
             throws IOException, XmlPullParserException
     {
         Path metadataPath = MetadataHelper.getMetadataPath(artifactBasePath);
-        Metadata metadata;
 
+        BasicFileAttributes attributes;
+        try
+        {
+            attributes = Files.readAttributes(metadataPath, BasicFileAttributes.class);
+        }
+        catch (NoSuchFileException e)
+        {
+            throw new FileNotFoundException(metadataPath.toString());
+        }
+
+        CachedMetadata cachedMetadata = metadataCache.getIfPresent(metadataPath);
+        if (cachedMetadata != null && cachedMetadata.matches(attributes))
+        {
+            return cachedMetadata.metadata.clone();
+        }
+
+        long invalidations = metadataInvalidationCount.get();
+
+        Metadata metadata;
         try (InputStream is = Files.newInputStream(metadataPath))
         {
             metadata = readMetadata(is);
         }
 
+        // Metadata stored while it was parsed may be outdated already.
+        if (invalidations == metadataInvalidationCount.get())
+        {
+            metadataCache.put(metadataPath, new CachedMetadata(attributes, metadata.clone()));
+        }
+
         return metadata;
     }
 
+    public void invalidateMetadata(Path metadataPath)
+    {
+        metadataInvalidationCount.incrementAndGet();
+        metadataCache.invalidate(metadataPath);
+    }
+
     public Metadata readMetadata(InputStream is)
             throws IOException, XmlPullParserException
     {
@@ -144,6 +192,10 @@ public class MavenMetadataManager
 
                              os.flush();
                          }
+                         finally
+                         {
+                             invalidateMetadata(metadataPath);
+                         }
                      }
                      catch (Exception ex)
                      {
@@ -428,4 +480,28 @@ public class MavenMetadataManager
         }
     }
 
+    private static class CachedMetadata
+    {
+
+        private final FileTime lastModifiedTime;
+
+        private final long size;
+
+        private final Metadata metadata;
+
+        private CachedMetadata(BasicFileAttributes attributes,
+                               Metadata metadata)
+        {
+            this.lastModifiedTime = attributes.lastModifiedTime();
+            this.size = attributes.size();
+            this.metadata = metadata;
+        }
+
+        private boolean matches(BasicFileAttributes attributes)
+        {
+            return size == attributes.size() && lastModifiedTime.equals(attributes.lastModifiedTime());
+        }
+
+    }
+
 }
@@ -0,0 +1,123 @@
+package org.carlspring.strongbox.io;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.TestCaseWithMavenArtifactGenerationAndIndexing;
+
+import javax.inject.Inject;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.NullOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The checksums stored next to an artifact are taken as they are when the artifact is read.
+ */
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class ArtifactInputStreamTest
+        extends TestCaseWithMavenArtifactGenerationAndIndexing
+{
+
+    private static final String REPOSITORY_ID = "ais-releases";
+
+    private static final String ARTIFACT_PATH = "org/carlspring/strongbox/ais/ais-artifact/1.0/ais-artifact-1.0.jar";
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @BeforeEach
+    public void init(TestInfo testInfo)
+            throws Exception
+    {
+        String repositoryId = getRepositoryName(REPOSITORY_ID, testInfo);
+        createRepository(STORAGE0, repositoryId, false);
+
+        generateArtifact(getRepositoryBasedir(STORAGE0, repositoryId).getAbsolutePath(),
+                         "org.carlspring.strongbox.ais:ais-artifact:1.0");
+    }
+
+    @AfterEach
+    public void removeRepositories(TestInfo testInfo)
+            throws Exception
+    {
+        Set<MutableRepository> repositories = new LinkedHashSet<>();
+        repositories.add(createRepositoryMock(STORAGE0,
+                                              getRepositoryName(REPOSITORY_ID, testInfo),
+                                              Maven2LayoutProvider.ALIAS));
+        removeRepositories(repositories);
+    }
+
+    @Test
+    public void storedChecksumsShouldNotBeDigestedAgain(TestInfo testInfo)
+            throws Exception
+    {
+        RepositoryPath artifactPath = resolve(testInfo);
+
+        try (LayoutInputStream is = (LayoutInputStream) Files.newInputStream(artifactPath))
+        {
+            IOUtils.copy(is, NullOutputStream.NULL_OUTPUT_STREAM);
+
+            assertTrue(is.getDigests().isEmpty());
+            assertEquals(readChecksum(artifactPath, ".md5"),
+                         is.getMessageDigestAsHexadecimalString(MessageDigestAlgorithms.MD5));
+            assertEquals(readChecksum(artifactPath, ".sha1"),
+                         is.getMessageDigestAsHexadecimalString(MessageDigestAlgorithms.SHA_1));
+        }
+    }
+
+    @Test
+    public void missingChecksumsShouldBeDigested(TestInfo testInfo)
+            throws Exception
+    {
+        RepositoryPath artifactPath = resolve(testInfo);
+        Files.delete(artifactPath.resolveSibling(artifactPath.getFileName() + ".md5"));
+
+        try (LayoutInputStream is = (LayoutInputStream) Files.newInputStream(artifactPath))
+        {
+            IOUtils.copy(is, NullOutputStream.NULL_OUTPUT_STREAM);
+
+            assertEquals(Collections.singleton(MessageDigestAlgorithms.MD5), is.getDigests().keySet());
+            assertEquals(DigestUtils.md5Hex(Files.readAllBytes(artifactPath)),
+                         is.getMessageDigestAsHexadecimalString(MessageDigestAlgorithms.MD5));
+            assertEquals(readChecksum(artifactPath, ".sha1"),
+                         is.getMessageDigestAsHexadecimalString(MessageDigestAlgorithms.SHA_1));
+        }
+    }
+
+    private RepositoryPath resolve(TestInfo testInfo)
+    {
+        Repository repository = getConfiguration().getStorage(STORAGE0)
+                                                  .getRepository(getRepositoryName(REPOSITORY_ID, testInfo));
+
+        return repositoryPathResolver.resolve(repository, ARTIFACT_PATH);
+    }
+
+    private String readChecksum(RepositoryPath artifactPath,
+                                String extension)
+            throws Exception
+    {
+        return new String(Files.readAllBytes(artifactPath.resolveSibling(artifactPath.getFileName() + extension))).trim();
+    }
+
+}
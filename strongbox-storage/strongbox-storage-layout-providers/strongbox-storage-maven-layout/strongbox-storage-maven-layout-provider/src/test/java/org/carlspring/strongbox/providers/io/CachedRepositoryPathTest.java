@@ -0,0 +1,211 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.RemoteArtifactEntry;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.providers.repository.ArtifactUpdatedEventHandler;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.storage.repository.MavenRepositoryFactory;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.TestCaseWithMavenArtifactGenerationAndIndexing;
+
+import javax.inject.Inject;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The {@link ArtifactEntry} memoized by the paths of {@link RepositoryPathResolver}.
+ */
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class CachedRepositoryPathTest
+        extends TestCaseWithMavenArtifactGenerationAndIndexing
+{
+
+    private static final String REPOSITORY_ID = "crp-releases";
+
+    private static final String ARTIFACT_PATH = "org/carlspring/strongbox/crp/crp-artifact/1.0/crp-artifact-1.0.jar";
+
+    @Inject
+    private ArtifactManagementService mavenArtifactManagementService;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private ArtifactUpdatedEventHandler artifactUpdatedEventHandler;
+
+    @Inject
+    private MavenRepositoryFactory mavenRepositoryFactory;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+
+    @BeforeEach
+    public void init(TestInfo testInfo)
+            throws Exception
+    {
+        MutableRepository repository = mavenRepositoryFactory.createRepository(getRepositoryName(REPOSITORY_ID,
+                                                                                                 testInfo));
+        createRepository(STORAGE0, repository);
+    }
+
+    @AfterEach
+    public void removeRepositories(TestInfo testInfo)
+            throws Exception
+    {
+        Set<MutableRepository> repositories = new LinkedHashSet<>();
+        repositories.add(createRepositoryMock(STORAGE0,
+                                              getRepositoryName(REPOSITORY_ID, testInfo),
+                                              Maven2LayoutProvider.ALIAS));
+        removeRepositories(repositories);
+    }
+
+    @Test
+    public void artifactEntryShouldBeMemoizedPerPath(TestInfo testInfo)
+            throws Exception
+    {
+        RepositoryPath repositoryPath = resolve(testInfo);
+        store(repositoryPath, "content");
+
+        RepositoryPath otherRepositoryPath = resolve(testInfo);
+        ArtifactEntry artifactEntry = otherRepositoryPath.getArtifactEntry();
+
+        assertNotNull(artifactEntry);
+        assertSame(artifactEntry, otherRepositoryPath.getArtifactEntry());
+
+        // Every path instance queries the entry on its own.
+        assertNotSame(artifactEntry, resolve(testInfo).getArtifactEntry());
+    }
+
+    @Test
+    public void missingArtifactEntryShouldNotBeMemoized(TestInfo testInfo)
+            throws Exception
+    {
+        RepositoryPath repositoryPath = resolve(testInfo);
+        assertNull(repositoryPath.getArtifactEntry());
+
+        store(resolve(testInfo), "content");
+
+        assertNotNull(repositoryPath.getArtifactEntry());
+    }
+
+    @Test
+    public void artifactEntryShouldBeFetchedAgainAfterSave(TestInfo testInfo)
+            throws Exception
+    {
+        RepositoryPath repositoryPath = resolve(testInfo);
+        store(repositoryPath, "content");
+
+        ArtifactEntry artifactEntry = repositoryPath.getArtifactEntry();
+        assertEquals(Long.valueOf("content".length()), artifactEntry.getSizeInBytes());
+
+        store(repositoryPath, "updated content");
+
+        ArtifactEntry updatedArtifactEntry = repositoryPath.getArtifactEntry();
+        assertNotSame(artifactEntry, updatedArtifactEntry);
+        assertEquals(Long.valueOf("updated content".length()), updatedArtifactEntry.getSizeInBytes());
+    }
+
+    @Test
+    public void artifactEntryShouldBeDroppedAfterDelete(TestInfo testInfo)
+            throws Exception
+    {
+        RepositoryPath repositoryPath = resolve(testInfo);
+        store(repositoryPath, "content");
+        assertNotNull(repositoryPath.getArtifactEntry());
+
+        RepositoryFiles.delete(repositoryPath, true);
+
+        assertNull(repositoryPath.getArtifactEntry());
+    }
+
+    @Test
+    public void artifactEntryShouldBeFetchedAgainAfterAsyncHandler(TestInfo testInfo)
+            throws Exception
+    {
+        store(resolve(testInfo), "content");
+
+        RepositoryPath repositoryPath = resolve(testInfo);
+        ArtifactEntry artifactEntry = repositoryPath.getArtifactEntry();
+        assertNotNull(artifactEntry);
+
+        artifactUpdatedEventHandler.handleEvent(new ArtifactEvent<>(repositoryPath,
+                                                                    ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType()));
+
+        // The handler runs asynchronously and saves its own copy of the entry, which shouldn't be shadowed by the
+        // one memoized before.
+        await().atMost(10, TimeUnit.SECONDS).until(() -> repositoryPath.getArtifactEntry() != artifactEntry);
+
+        ArtifactEntry handledArtifactEntry = repositoryPath.getArtifactEntry();
+        assertFalse(handledArtifactEntry.getLastUpdated().before(artifactEntry.getLastUpdated()));
+    }
+
+    @Test
+    public void remoteArtifactEntryShouldNotBeMemoizedUntilCached(TestInfo testInfo)
+            throws Exception
+    {
+        RepositoryPath repositoryPath = resolve(testInfo);
+
+        RemoteArtifactEntry remoteArtifactEntry = new RemoteArtifactEntry();
+        remoteArtifactEntry.setStorageId(STORAGE0);
+        remoteArtifactEntry.setRepositoryId(getRepositoryName(REPOSITORY_ID, testInfo));
+        remoteArtifactEntry.setArtifactCoordinates(RepositoryFiles.readCoordinates(repositoryPath));
+        remoteArtifactEntry.setLastUsed(new Date());
+        remoteArtifactEntry.setLastUpdated(new Date());
+        remoteArtifactEntry.setDownloadCount(0);
+        artifactEntryService.save(remoteArtifactEntry);
+
+        ArtifactEntry artifactEntry = repositoryPath.getArtifactEntry();
+        assertTrue(artifactEntry instanceof RemoteArtifactEntry);
+        assertFalse(((RemoteArtifactEntry) artifactEntry).getIsCached());
+
+        // The artifact may be stored by another request at any time, so the entry is queried again.
+        assertNotSame(artifactEntry, repositoryPath.getArtifactEntry());
+    }
+
+    private RepositoryPath resolve(TestInfo testInfo)
+    {
+        Repository repository = getConfiguration().getStorage(STORAGE0)
+                                                  .getRepository(getRepositoryName(REPOSITORY_ID, testInfo));
+
+        return repositoryPathResolver.resolve(repository, ARTIFACT_PATH);
+    }
+
+    private void store(RepositoryPath repositoryPath,
+                       String content)
+            throws Exception
+    {
+        mavenArtifactManagementService.store(repositoryPath,
+                                             new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
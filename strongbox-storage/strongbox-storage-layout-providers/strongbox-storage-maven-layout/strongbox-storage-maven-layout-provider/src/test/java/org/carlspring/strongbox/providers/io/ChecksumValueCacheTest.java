@@ -0,0 +1,110 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.ChecksumValueCache.ChecksumValues;
+import org.carlspring.strongbox.providers.layout.LayoutFileSystemProvider;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.storage.repository.MavenRepositoryFactory;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.TestCaseWithMavenArtifactGenerationAndIndexing;
+
+import javax.inject.Inject;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class ChecksumValueCacheTest
+        extends TestCaseWithMavenArtifactGenerationAndIndexing
+{
+
+    private static final String REPOSITORY_ID = "cvc-releases";
+
+    private static final String ARTIFACT_PATH = "org/carlspring/strongbox/cvc/cvc-artifact/1.0/cvc-artifact-1.0.pom";
+
+    @Inject
+    private ArtifactManagementService mavenArtifactManagementService;
+
+    @Inject
+    private MavenRepositoryFactory mavenRepositoryFactory;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+
+    @BeforeEach
+    public void init(TestInfo testInfo)
+            throws Exception
+    {
+        MutableRepository repository = mavenRepositoryFactory.createRepository(getRepositoryName(REPOSITORY_ID,
+                                                                                                 testInfo));
+        createRepository(STORAGE0, repository);
+    }
+
+    @AfterEach
+    public void removeRepositories(TestInfo testInfo)
+            throws Exception
+    {
+        Set<MutableRepository> repositories = new LinkedHashSet<>();
+        repositories.add(createRepositoryMock(STORAGE0,
+                                              getRepositoryName(REPOSITORY_ID, testInfo),
+                                              Maven2LayoutProvider.ALIAS));
+        removeRepositories(repositories);
+    }
+
+    @Test
+    public void checksumValuesShouldBeCachedUntilArtifactOrChecksumChanges(TestInfo testInfo)
+            throws Exception
+    {
+        Repository repository = getConfiguration().getStorage(STORAGE0)
+                                                  .getRepository(getRepositoryName(REPOSITORY_ID, testInfo));
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, ARTIFACT_PATH);
+        LayoutFileSystemProvider provider = (LayoutFileSystemProvider) repositoryPath.getFileSystem().provider();
+
+        byte[] content = "first".getBytes(StandardCharsets.UTF_8);
+        mavenArtifactManagementService.store(repositoryPath, new ByteArrayInputStream(content));
+
+        ChecksumValues checksumValues = provider.getChecksumValues(repositoryPath);
+        assertEquals(DigestUtils.sha1Hex(content), checksumValues.getChecksum(MessageDigestAlgorithms.SHA_1));
+        assertEquals(DigestUtils.md5Hex(content), checksumValues.getChecksum(MessageDigestAlgorithms.MD5));
+        assertFalse(checksumValues.isOutdated(MessageDigestAlgorithms.SHA_1));
+        assertSame(checksumValues, provider.getChecksumValues(repositoryPath));
+
+        // A checksum file written through the repository file system invalidates the cached values.
+        RepositoryPath checksumPath = provider.getChecksumPath(repositoryPath, MessageDigestAlgorithms.SHA_1);
+        Files.write(checksumPath, "uploaded".getBytes(StandardCharsets.UTF_8));
+
+        checksumValues = provider.getChecksumValues(repositoryPath);
+        assertEquals("uploaded", checksumValues.getChecksum(MessageDigestAlgorithms.SHA_1));
+
+        // So does the new artifact content.
+        content = "second".getBytes(StandardCharsets.UTF_8);
+        mavenArtifactManagementService.store(repositoryPath, new ByteArrayInputStream(content));
+
+        ChecksumValues updatedChecksumValues = provider.getChecksumValues(repositoryPath);
+        assertNotSame(checksumValues, updatedChecksumValues);
+        assertEquals(DigestUtils.sha1Hex(content), updatedChecksumValues.getChecksum(MessageDigestAlgorithms.SHA_1));
+    }
+
+}
@@ -4,17 +4,21 @@ import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.services.ArtifactManagementService;
 import org.carlspring.strongbox.services.ArtifactMetadataService;
 import org.carlspring.strongbox.services.ConfigurationManagementService;
 import org.carlspring.strongbox.storage.repository.MavenRepositoryFactory;
 import org.carlspring.strongbox.storage.repository.MutableRepository;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteRepositoryAlivenessCacheManager;
 import org.carlspring.strongbox.testing.TestCaseWithMavenArtifactGenerationAndIndexing;
 import org.carlspring.strongbox.xml.configuration.repository.MutableMavenRepositoryConfiguration;
 
 import javax.inject.Inject;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -25,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.parallel.Execution;
+import org.mockito.Mockito;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -32,6 +37,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
+import static org.mockito.ArgumentMatchers.argThat;
 
 /**
  * @author mtodorov
@@ -60,6 +66,15 @@ public class MavenGroupRepositoryProviderTest
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
+    @Inject
+    private ArtifactManagementService mavenArtifactManagementService;
+
+    @Inject
+    private RepositoryPathNotFoundCacheManager repositoryPathNotFoundCacheManager;
+
+    @Inject
+    private RemoteRepositoryAlivenessCacheManager remoteRepositoryAlivenessCacheManager;
+
     @AfterEach
     public void removeRepositories(TestInfo testInfo)
             throws Exception
@@ -154,6 +169,21 @@ public class MavenGroupRepositoryProviderTest
         repositories.add(createRepositoryMock(STORAGE0,
                                               getRepositoryName("grpt-releases-drsbv-group", testInfo),
                                               Maven2LayoutProvider.ALIAS));
+        repositories.add(createRepositoryMock(STORAGE0,
+                                              getRepositoryName("grpt-releases-npc-1", testInfo),
+                                              Maven2LayoutProvider.ALIAS));
+        repositories.add(createRepositoryMock(STORAGE0,
+                                              getRepositoryName("grpt-releases-npc-group", testInfo),
+                                              Maven2LayoutProvider.ALIAS));
+        repositories.add(createRepositoryMock(STORAGE0,
+                                              getRepositoryName("grpt-releases-npcd-1", testInfo),
+                                              Maven2LayoutProvider.ALIAS));
+        repositories.add(createRepositoryMock(STORAGE0,
+                                              getRepositoryName("grpt-proxy-npcd-2", testInfo),
+                                              Maven2LayoutProvider.ALIAS));
+        repositories.add(createRepositoryMock(STORAGE0,
+                                              getRepositoryName("grpt-releases-npcd-group", testInfo),
+                                              Maven2LayoutProvider.ALIAS));
 
         return repositories;
     }
@@ -548,6 +578,77 @@ public class MavenGroupRepositoryProviderTest
         }
     }
 
+    @Test
+    public void notFoundPathShouldBeFoundOnceStoredIntoMember(TestInfo testInfo)
+            throws Exception
+    {
+        String repositoryReleases1Name = getRepositoryName("grpt-releases-npc-1", testInfo);
+
+        String repositoryGroupName = getRepositoryName("grpt-releases-npc-group", testInfo);
+
+        createRepository(STORAGE0, repositoryReleases1Name, false);
+
+        MutableRepository repositoryGroup = mavenRepositoryFactory.createRepository(repositoryGroupName);
+        repositoryGroup.setType(RepositoryTypeEnum.GROUP.getType());
+        repositoryGroup.addRepositoryToGroup(repositoryReleases1Name);
+
+        createRepository(STORAGE0, repositoryGroup);
+
+        Repository repository = configurationManager.getRepository(STORAGE0 + ":" + repositoryGroupName);
+        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+
+        String artifactPath = "org/carlspring/strongbox/npc/npc-artifact/1.0/npc-artifact-1.0.pom";
+        RepositoryPath resolvedPath = repositoryPathResolver.resolve(STORAGE0, repositoryGroupName, artifactPath);
+
+        assertNull(repositoryProvider.fetchPath(resolvedPath));
+        assertTrue(repositoryPathNotFoundCacheManager.isNotFound(resolvedPath));
+
+        mavenArtifactManagementService.store(repositoryPathResolver.resolve(STORAGE0,
+                                                                            repositoryReleases1Name,
+                                                                            artifactPath),
+                                             new ByteArrayInputStream("npc".getBytes(StandardCharsets.UTF_8)));
+
+        assertFalse(repositoryPathNotFoundCacheManager.isNotFound(resolvedPath));
+        assertNotNull(repositoryProvider.fetchPath(resolvedPath));
+    }
+
+    @Test
+    public void pathMissedWhileProxyMemberIsDownShouldNotBeRemembered(TestInfo testInfo)
+            throws Exception
+    {
+        String repositoryReleases1Name = getRepositoryName("grpt-releases-npcd-1", testInfo);
+
+        String repositoryProxy2Name = getRepositoryName("grpt-proxy-npcd-2", testInfo);
+
+        String repositoryGroupName = getRepositoryName("grpt-releases-npcd-group", testInfo);
+
+        String remoteUrl = "http://localhost:1/" + repositoryProxy2Name + "/";
+
+        createRepository(STORAGE0, repositoryReleases1Name, false);
+        createProxyRepository(STORAGE0, repositoryProxy2Name, remoteUrl);
+
+        MutableRepository repositoryGroup = mavenRepositoryFactory.createRepository(repositoryGroupName);
+        repositoryGroup.setType(RepositoryTypeEnum.GROUP.getType());
+        repositoryGroup.addRepositoryToGroup(repositoryReleases1Name);
+        repositoryGroup.addRepositoryToGroup(repositoryProxy2Name);
+
+        createRepository(STORAGE0, repositoryGroup);
+
+        Mockito.when(remoteRepositoryAlivenessCacheManager.isAlive(
+                argThat(argument -> argument != null && remoteUrl.equals(argument.getUrl()))))
+               .thenReturn(false);
+
+        Repository repository = configurationManager.getRepository(STORAGE0 + ":" + repositoryGroupName);
+        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+
+        String artifactPath = "org/carlspring/strongbox/npcd/npcd-artifact/1.0/npcd-artifact-1.0.pom";
+        RepositoryPath resolvedPath = repositoryPathResolver.resolve(STORAGE0, repositoryGroupName, artifactPath);
+
+        // The proxy member may have the path once its remote repository is up again.
+        assertNull(repositoryProvider.fetchPath(resolvedPath));
+        assertFalse(repositoryPathNotFoundCacheManager.isNotFound(resolvedPath));
+    }
+
     @Test
     public void testGroupExcludes(TestInfo testInfo)
             throws Exception
@@ -49,6 +49,9 @@ public class ParallelDownloadRemoteArtifactTest
 
     @Inject
     private PlatformTransactionManager transactionManager;
+
+    @Inject
+    private ArtifactDownloadingEventHandler artifactDownloadingEventHandler;
     
     @BeforeEach
     public void setup()
@@ -93,7 +96,9 @@ public class ParallelDownloadRemoteArtifactTest
         assertEquals(concurrency, result.size());
 
         assertArrayEquals(expected, actual);
-        
+
+        artifactDownloadingEventHandler.flush();
+
         RepositoryPath repositoryPath = repositoryPathResolver.resolve(storageId, repositoryId, path);
 
         assertNotNull(repositoryPath.getArtifactEntry());
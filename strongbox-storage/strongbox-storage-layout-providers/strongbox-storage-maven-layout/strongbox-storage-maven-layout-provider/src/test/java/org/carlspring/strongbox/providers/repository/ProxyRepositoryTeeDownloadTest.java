@@ -0,0 +1,220 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactResolver;
+import org.carlspring.strongbox.services.ConfigurationManagementService;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.testing.TestCaseWithMavenArtifactGenerationAndIndexing;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Proxied artifacts served by {@link ProxyRepositoryProvider} while they are being downloaded, with the
+ * {@code teeDownload} option of the remote repositories configuration.
+ */
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class ProxyRepositoryTeeDownloadTest
+        extends TestCaseWithMavenArtifactGenerationAndIndexing
+{
+
+    private static final String STORAGE_ID = "storage-common-proxies";
+
+    private static final String REPOSITORY_ID = "ptd-proxy";
+
+    private static final String ARTIFACT_PATH = "org/carlspring/properties-injector/1.7/properties-injector-1.7.jar";
+
+    @Inject
+    private ConfigurationManagementService configurationManagementService;
+
+    @Inject
+    private ProxyRepositoryArtifactResolver proxyRepositoryArtifactResolver;
+
+    private final CountDownLatch remainderReleased = new CountDownLatch(1);
+
+    private byte[] artifact;
+
+    private HttpServer remoteServer;
+
+    private boolean teeDownload;
+
+
+    @BeforeEach
+    public void init(TestInfo testInfo)
+            throws Exception
+    {
+        artifact = ByteStreams.toByteArray(new ClassPathResource("artifacts/properties-injector-1.7.jar").getInputStream());
+
+        remoteServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        remoteServer.createContext("/", this::serve);
+        remoteServer.setExecutor(Executors.newCachedThreadPool());
+        remoteServer.start();
+
+        createProxyRepository(STORAGE_ID,
+                              getRepositoryName(REPOSITORY_ID, testInfo),
+                              String.format("http://localhost:%s/", remoteServer.getAddress().getPort()));
+
+        teeDownload = configurationManagementService.getConfiguration()
+                                                    .getRemoteRepositoriesConfiguration()
+                                                    .isTeeDownload();
+        configurationManagementService.setTeeDownload(true);
+    }
+
+    @AfterEach
+    public void removeRepositories(TestInfo testInfo)
+            throws Exception
+    {
+        configurationManagementService.setTeeDownload(teeDownload);
+
+        remainderReleased.countDown();
+        remoteServer.stop(0);
+
+        Set<MutableRepository> repositories = new LinkedHashSet<>();
+        repositories.add(createRepositoryMock(STORAGE_ID,
+                                              getRepositoryName(REPOSITORY_ID, testInfo),
+                                              Maven2LayoutProvider.ALIAS));
+        removeRepositories(repositories);
+    }
+
+    @Test
+    public void artifactShouldBeServedBeforeItHasBeenDownloaded(TestInfo testInfo)
+            throws Exception
+    {
+        RepositoryPath repositoryPath = artifactResolutionService.resolvePath(STORAGE_ID,
+                                                                              getRepositoryName(REPOSITORY_ID,
+                                                                                                testInfo),
+                                                                              ARTIFACT_PATH);
+        assertNotNull(repositoryPath);
+        assertTrue(proxyRepositoryArtifactResolver.isDownloading(repositoryPath));
+
+        try (InputStream is = artifactResolutionService.getInputStream(repositoryPath))
+        {
+            byte[] head = new byte[artifact.length / 2];
+            ByteStreams.readFully(is, head);
+
+            // The remote repository holds the rest of the artifact, so it's not stored yet.
+            assertArrayEquals(Arrays.copyOf(artifact, head.length), head);
+            assertTrue(proxyRepositoryArtifactResolver.isDownloading(repositoryPath));
+            assertFalse(Files.exists(repositoryPath));
+
+            remainderReleased.countDown();
+
+            assertArrayEquals(Arrays.copyOfRange(artifact, head.length, artifact.length), ByteStreams.toByteArray(is));
+        }
+
+        awaitStored(repositoryPath);
+    }
+
+    @Test
+    public void slowReaderShouldNotBlockArtifactStorage(TestInfo testInfo)
+            throws Exception
+    {
+        remainderReleased.countDown();
+
+        RepositoryPath repositoryPath = artifactResolutionService.resolvePath(STORAGE_ID,
+                                                                              getRepositoryName(REPOSITORY_ID,
+                                                                                                testInfo),
+                                                                              ARTIFACT_PATH);
+        assertNotNull(repositoryPath);
+
+        try (InputStream is = artifactResolutionService.getInputStream(repositoryPath))
+        {
+            byte[] head = new byte[1];
+            ByteStreams.readFully(is, head);
+
+            // The reader is still open, and the download stores the artifact regardless.
+            awaitStored(repositoryPath);
+
+            byte[] rest = ByteStreams.toByteArray(is);
+            assertArrayEquals(Arrays.copyOfRange(artifact, 1, artifact.length), rest);
+        }
+    }
+
+    private void awaitStored(RepositoryPath repositoryPath)
+            throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (proxyRepositoryArtifactResolver.isDownloading(repositoryPath) && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(50);
+        }
+
+        assertFalse(proxyRepositoryArtifactResolver.isDownloading(repositoryPath));
+        assertTrue(Files.exists(repositoryPath));
+    }
+
+    private void serve(HttpExchange exchange)
+        throws IOException
+    {
+        try (InputStream requestBody = exchange.getRequestBody())
+        {
+            if (!exchange.getRequestURI().getPath().endsWith(ARTIFACT_PATH))
+            {
+                exchange.sendResponseHeaders(404, -1);
+
+                return;
+            }
+
+            if (!"GET".equals(exchange.getRequestMethod()))
+            {
+                exchange.sendResponseHeaders(200, -1);
+
+                return;
+            }
+
+            exchange.sendResponseHeaders(200, artifact.length);
+            try (OutputStream responseBody = exchange.getResponseBody())
+            {
+                int half = artifact.length / 2;
+                responseBody.write(artifact, 0, half);
+                responseBody.flush();
+
+                remainderReleased.await(10, TimeUnit.SECONDS);
+
+                responseBody.write(artifact, half, artifact.length - half);
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new IOException(e);
+        }
+        finally
+        {
+            exchange.close();
+        }
+    }
+
+}
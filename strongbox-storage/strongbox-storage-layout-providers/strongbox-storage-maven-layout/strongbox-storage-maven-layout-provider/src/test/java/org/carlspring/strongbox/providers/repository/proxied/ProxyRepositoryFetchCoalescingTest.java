@@ -0,0 +1,186 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.testing.TestCaseWithMavenArtifactGenerationAndIndexing;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class ProxyRepositoryFetchCoalescingTest
+        extends TestCaseWithMavenArtifactGenerationAndIndexing
+{
+
+    private static final String STORAGE_ID = "storage-common-proxies";
+
+    private static final String REPOSITORY_ID = "pfc-proxy";
+
+    private static final String ARTIFACT_PATH = "org/carlspring/properties-injector/1.7/properties-injector-1.7.jar";
+
+    private static final int CONCURRENCY = 16;
+
+    private final AtomicInteger upstreamRequests = new AtomicInteger();
+
+    private final CountDownLatch responseReleased = new CountDownLatch(1);
+
+    @Inject
+    private ProxyRepositoryFetchRegistry proxyRepositoryFetchRegistry;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    private HttpServer remoteServer;
+
+    private ExecutorService executor;
+
+
+    @BeforeEach
+    public void init(TestInfo testInfo)
+            throws Exception
+    {
+        byte[] artifact = ByteStreams.toByteArray(new ClassPathResource("artifacts/properties-injector-1.7.jar").getInputStream());
+
+        remoteServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        remoteServer.createContext("/", exchange -> serve(exchange, artifact));
+        remoteServer.setExecutor(Executors.newCachedThreadPool());
+        remoteServer.start();
+
+        executor = Executors.newFixedThreadPool(CONCURRENCY);
+
+        createProxyRepository(STORAGE_ID,
+                              getRepositoryName(REPOSITORY_ID, testInfo),
+                              String.format("http://localhost:%s/", remoteServer.getAddress().getPort()));
+    }
+
+    @AfterEach
+    public void removeRepositories(TestInfo testInfo)
+            throws Exception
+    {
+        responseReleased.countDown();
+        executor.shutdownNow();
+        remoteServer.stop(0);
+
+        Set<MutableRepository> repositories = new LinkedHashSet<>();
+        repositories.add(createRepositoryMock(STORAGE_ID,
+                                              getRepositoryName(REPOSITORY_ID, testInfo),
+                                              Maven2LayoutProvider.ALIAS));
+        removeRepositories(repositories);
+    }
+
+    @Test
+    public void concurrentCacheMissesShouldCauseSingleUpstreamRequest(TestInfo testInfo)
+            throws Exception
+    {
+        String repositoryId = getRepositoryName(REPOSITORY_ID, testInfo);
+
+        Callable<RepositoryPath> request = () -> artifactResolutionService.resolvePath(STORAGE_ID,
+                                                                                      repositoryId,
+                                                                                      ARTIFACT_PATH);
+
+        List<Future<RepositoryPath>> results = IntStream.range(0, CONCURRENCY)
+                                                        .mapToObj(i -> executor.submit(request))
+                                                        .collect(Collectors.toList());
+
+        // While the remote repository holds the response, every other requester should join the fetch in
+        // progress, rather than queue for the lock of the path and re-check the cache after the first one.
+        RepositoryPath artifactPath = repositoryPathResolver.resolve(STORAGE_ID, repositoryId, ARTIFACT_PATH);
+        await().atMost(30, TimeUnit.SECONDS)
+               .until(() -> proxyRepositoryFetchRegistry.getWaiterCount(artifactPath) == CONCURRENCY - 1);
+        assertEquals(1, upstreamRequests.get());
+
+        responseReleased.countDown();
+
+        for (Future<RepositoryPath> result : results)
+        {
+            RepositoryPath repositoryPath = result.get(60, TimeUnit.SECONDS);
+
+            assertNotNull(repositoryPath);
+            assertTrue(Files.exists(repositoryPath));
+        }
+
+        assertEquals(1, upstreamRequests.get());
+    }
+
+    private void serve(HttpExchange exchange,
+                       byte[] artifact)
+        throws IOException
+    {
+        try (InputStream requestBody = exchange.getRequestBody())
+        {
+            if (!exchange.getRequestURI().getPath().endsWith(ARTIFACT_PATH))
+            {
+                exchange.sendResponseHeaders(404, -1);
+
+                return;
+            }
+
+            if (!"GET".equals(exchange.getRequestMethod()))
+            {
+                exchange.sendResponseHeaders(200, -1);
+
+                return;
+            }
+
+            upstreamRequests.incrementAndGet();
+
+            // Hold the response until the test has seen how the other requesters wait for it.
+            responseReleased.await(60, TimeUnit.SECONDS);
+
+            exchange.sendResponseHeaders(200, artifact.length);
+            try (OutputStream responseBody = exchange.getResponseBody())
+            {
+                responseBody.write(artifact);
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new IOException(e);
+        }
+        finally
+        {
+            exchange.close();
+        }
+    }
+
+}
@@ -0,0 +1,193 @@
+package org.carlspring.strongbox.services;
+
+import org.carlspring.strongbox.artifact.ArtifactEntryHandlerExecutor;
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.providers.repository.ArtifactDownloadingEventHandler;
+import org.carlspring.strongbox.storage.repository.MavenRepositoryFactory;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.TestCaseWithMavenArtifactGenerationAndIndexing;
+
+import javax.inject.Inject;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.io.ByteStreams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Stores and downloads many artifacts at the same time, and reports how long it took. The store events are handled on
+ * the {@link ArtifactEntryHandlerExecutor}, while the downloads are counted by the
+ * {@link ArtifactDownloadingEventHandler}.
+ */
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class ArtifactEntryHandlerLoadTest
+        extends TestCaseWithMavenArtifactGenerationAndIndexing
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactEntryHandlerLoadTest.class);
+
+    private static final String REPOSITORY_ID = "aehl-releases";
+
+    private static final int ARTIFACT_COUNT = 200;
+
+    private static final int DOWNLOADS_PER_ARTIFACT = 3;
+
+    private static final int CONCURRENCY = 32;
+
+    private static final int CONTENT_SIZE = 4096;
+
+    @Inject
+    private ArtifactManagementService mavenArtifactManagementService;
+
+    @Inject
+    private ArtifactResolutionService artifactResolutionService;
+
+    @Inject
+    private MavenRepositoryFactory mavenRepositoryFactory;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private ArtifactDownloadingEventHandler artifactDownloadingEventHandler;
+
+    @Inject
+    private ArtifactEntryHandlerExecutor artifactEntryHandlerExecutor;
+
+    private ExecutorService executor;
+
+
+    @BeforeEach
+    public void init(TestInfo testInfo)
+            throws Exception
+    {
+        executor = Executors.newFixedThreadPool(CONCURRENCY);
+
+        MutableRepository repository = mavenRepositoryFactory.createRepository(getRepositoryName(REPOSITORY_ID,
+                                                                                                 testInfo));
+        createRepository(STORAGE0, repository);
+    }
+
+    @AfterEach
+    public void removeRepositories(TestInfo testInfo)
+            throws Exception
+    {
+        executor.shutdownNow();
+
+        Set<MutableRepository> repositories = new LinkedHashSet<>();
+        repositories.add(createRepositoryMock(STORAGE0,
+                                              getRepositoryName(REPOSITORY_ID, testInfo),
+                                              Maven2LayoutProvider.ALIAS));
+        removeRepositories(repositories);
+    }
+
+    @Test
+    public void concurrentStoresAndDownloadsShouldUpdateEveryEntry(TestInfo testInfo)
+            throws Exception
+    {
+        Repository repository = getConfiguration().getStorage(STORAGE0)
+                                                  .getRepository(getRepositoryName(REPOSITORY_ID, testInfo));
+
+        Random random = new Random();
+        long started = System.nanoTime();
+
+        List<Future<Long>> stores = new ArrayList<>();
+        for (int i = 0; i < ARTIFACT_COUNT; i++)
+        {
+            byte[] content = new byte[CONTENT_SIZE];
+            random.nextBytes(content);
+
+            RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, artifactPath(i));
+            stores.add(executor.submit(() -> mavenArtifactManagementService.store(repositoryPath,
+                                                                                  new ByteArrayInputStream(content))));
+        }
+        for (Future<Long> store : stores)
+        {
+            assertEquals(Long.valueOf(CONTENT_SIZE), store.get(60, TimeUnit.SECONDS));
+        }
+
+        List<Future<Long>> downloads = new ArrayList<>();
+        for (int i = 0; i < ARTIFACT_COUNT * DOWNLOADS_PER_ARTIFACT; i++)
+        {
+            RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository,
+                                                                           artifactPath(i % ARTIFACT_COUNT));
+            downloads.add(executor.submit(() -> {
+                try (RepositoryInputStream is = artifactResolutionService.getInputStream(repositoryPath))
+                {
+                    return (long) ByteStreams.toByteArray(is).length;
+                }
+            }));
+        }
+        for (Future<Long> download : downloads)
+        {
+            assertEquals(Long.valueOf(CONTENT_SIZE), download.get(60, TimeUnit.SECONDS));
+        }
+
+        logger.info(String.format("Stored [%s] and downloaded [%s] artifacts in [%s] ms: submittedTasks=[%s], completedTasks=[%s], blockedSubmissions=[%s].",
+                                  ARTIFACT_COUNT,
+                                  ARTIFACT_COUNT * DOWNLOADS_PER_ARTIFACT,
+                                  TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                                  artifactEntryHandlerExecutor.getSubmittedTaskCount(),
+                                  artifactEntryHandlerExecutor.getCompletedTaskCount(),
+                                  artifactEntryHandlerExecutor.getBlockedSubmissionCount()));
+
+        artifactDownloadingEventHandler.flush();
+
+        // The handlers don't hold the event threads, so some of them may still be running. The tasks of the same key
+        // run one after another, so the entry read by the task submitted last is the one left by the handlers.
+        List<CompletableFuture<ArtifactEntry>> handledEntries = new ArrayList<>();
+        for (int i = 0; i < ARTIFACT_COUNT; i++)
+        {
+            RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, artifactPath(i));
+            handledEntries.add(artifactEntryHandlerExecutor.submit(repositoryPath.toUri().toString(),
+                                                                   repositoryPath::getArtifactEntry));
+        }
+
+        await().atMost(60, TimeUnit.SECONDS)
+               .until(() -> handledEntries.stream().allMatch(CompletableFuture::isDone));
+
+        for (CompletableFuture<ArtifactEntry> handledEntry : handledEntries)
+        {
+            ArtifactEntry artifactEntry = handledEntry.get();
+
+            assertNotNull(artifactEntry);
+            assertEquals(Long.valueOf(CONTENT_SIZE), artifactEntry.getSizeInBytes());
+            assertEquals(Integer.valueOf(DOWNLOADS_PER_ARTIFACT), artifactEntry.getDownloadCount());
+        }
+    }
+
+    private String artifactPath(int i)
+    {
+        return String.format("org/carlspring/strongbox/aehl/load-artifact-%1$s/1.0/load-artifact-%1$s-1.0.pom", i);
+    }
+
+}
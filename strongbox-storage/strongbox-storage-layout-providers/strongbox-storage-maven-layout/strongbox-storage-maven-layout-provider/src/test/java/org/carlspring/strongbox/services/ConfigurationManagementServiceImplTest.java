@@ -2,7 +2,12 @@ package org.carlspring.strongbox.services;
 
 import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
 import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.ConfigurationFileManager;
+import org.carlspring.strongbox.providers.io.RepositoryFileSystemRegistry;
 import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.providers.repository.RepositoryPathNotFoundCacheManager;
+import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
+import org.carlspring.strongbox.services.impl.ConfigurationManagementServiceImpl;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.*;
 import org.carlspring.strongbox.storage.routing.MutableRoutingRule;
@@ -22,11 +27,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.parallel.Execution;
+import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
@@ -54,6 +61,10 @@ public class ConfigurationManagementServiceImplTest
 
     private static final String REPOSITORY_GROUP_2 = "csmi-group-2";
 
+    private static final String REPOSITORY_GROUP_3 = "csmi-group-3";
+
+    private static final String REPOSITORY_GROUP_4 = "csmi-group-4";
+
     private static final String REPOSITORY_4_DB_VERSION_1 = "db-versioned-conf-release-1";
 
     private static final String REPOSITORY_4_DB_VERSION_2 = "db-versioned-conf-release-2";
@@ -79,6 +90,8 @@ public class ConfigurationManagementServiceImplTest
         repositories.add(createRepositoryMock(STORAGE0, REPOSITORY_RELEASES_2, Maven2LayoutProvider.ALIAS));
         repositories.add(createRepositoryMock(STORAGE0, REPOSITORY_GROUP_1, Maven2LayoutProvider.ALIAS));
         repositories.add(createRepositoryMock(STORAGE0, REPOSITORY_GROUP_2, Maven2LayoutProvider.ALIAS));
+        repositories.add(createRepositoryMock(STORAGE0, REPOSITORY_GROUP_3, Maven2LayoutProvider.ALIAS));
+        repositories.add(createRepositoryMock(STORAGE0, REPOSITORY_GROUP_4, Maven2LayoutProvider.ALIAS));
         repositories.add(createRepositoryMock(STORAGE0, REPOSITORY_4_DB_VERSION_1, Maven2LayoutProvider.ALIAS));
         repositories.add(createRepositoryMock(STORAGE0, REPOSITORY_4_DB_VERSION_2, Maven2LayoutProvider.ALIAS));
 
@@ -206,6 +219,36 @@ public class ConfigurationManagementServiceImplTest
         }
     }
 
+    @Test
+    public void testGetGroupRepositoriesContainingRepositoryTransitively()
+            throws Exception
+    {
+        MutableRepository groupRepository3 = mavenRepositoryFactory.createRepository(REPOSITORY_GROUP_3);
+        groupRepository3.setType(RepositoryTypeEnum.GROUP.getType());
+        groupRepository3.getGroupRepositories().put(REPOSITORY_GROUP_1, REPOSITORY_GROUP_1);
+
+        MutableRepository groupRepository4 = mavenRepositoryFactory.createRepository(REPOSITORY_GROUP_4);
+        groupRepository4.setType(RepositoryTypeEnum.GROUP.getType());
+        groupRepository4.getGroupRepositories().put(STORAGE0 + ":" + REPOSITORY_GROUP_3,
+                                                    STORAGE0 + ":" + REPOSITORY_GROUP_3);
+
+        createRepository(STORAGE0, groupRepository3);
+        createRepository(STORAGE0, groupRepository4);
+
+        Configuration configuration = configurationManagementService.getConfiguration();
+
+        List<Repository> groups = configuration.getGroupRepositoriesContaining(STORAGE0, REPOSITORY_GROUP_1);
+        assertEquals(1, groups.size());
+        assertEquals(REPOSITORY_GROUP_3, groups.get(0).getId());
+
+        Set<String> transitiveGroupIds = new HashSet<>();
+        configuration.getGroupRepositoriesContainingTransitively(STORAGE0, REPOSITORY_GROUP_1)
+                     .forEach(repository -> transitiveGroupIds.add(repository.getId()));
+        assertEquals(new HashSet<>(Arrays.asList(REPOSITORY_GROUP_3, REPOSITORY_GROUP_4)), transitiveGroupIds);
+
+        assertTrue(configuration.getGroupRepositoriesContaining(STORAGE0, REPOSITORY_GROUP_4).isEmpty());
+    }
+
     @Test
     public void testRemoveRepositoryFromAssociatedGroups()
     {
@@ -244,6 +287,37 @@ public class ConfigurationManagementServiceImplTest
         assertEquals(10, pool.getAllocatedConnections());
     }
 
+    @Test
+    public void configurationSnapshotShouldNotBeCopiedOnRead()
+    {
+        // The other tests modify the shared service concurrently, so the reads go to a service of their own.
+        ConfigurationManagementServiceImpl service = new ConfigurationManagementServiceImpl();
+        ReflectionTestUtils.setField(service, "configurationFileManager",
+                                     Mockito.mock(ConfigurationFileManager.class));
+        ReflectionTestUtils.setField(service, "proxyRepositoryConnectionPoolConfigurationService",
+                                     Mockito.mock(ProxyRepositoryConnectionPoolConfigurationService.class));
+        ReflectionTestUtils.setField(service, "repositoryFileSystemRegistry",
+                                     Mockito.mock(RepositoryFileSystemRegistry.class));
+        ReflectionTestUtils.setField(service, "repositoryPathNotFoundCacheManager",
+                                     Mockito.mock(RepositoryPathNotFoundCacheManager.class));
+        service.setConfiguration(configurationManagementService.getMutableConfigurationClone());
+
+        assertSame(service.getConfiguration(), service.getConfiguration());
+    }
+
+    @Test
+    public void configurationSnapshotShouldBePublishedOnModification()
+    {
+        final Configuration before = configurationManagementService.getConfiguration();
+
+        configurationManagementService.setArtifactMaxSize(STORAGE0, REPOSITORY_RELEASES_2, 1024L);
+
+        final Configuration after = configurationManagementService.getConfiguration();
+
+        assertNotSame(before, after);
+        assertEquals(1024L, after.getRepository(STORAGE0, REPOSITORY_RELEASES_2).getArtifactMaxSize());
+    }
+
     @Test
     public void addAcceptedRuleSet()
     {
@@ -0,0 +1,123 @@
+package org.carlspring.strongbox.storage.metadata;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
+import org.carlspring.strongbox.storage.repository.MavenRepositoryFactory;
+import org.carlspring.strongbox.storage.repository.MutableRepository;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.TestCaseWithMavenArtifactGenerationAndIndexing;
+
+import javax.inject.Inject;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.Versioning;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class MavenMetadataManagerTest
+        extends TestCaseWithMavenArtifactGenerationAndIndexing
+{
+
+    private static final String REPOSITORY_ID = "mmm-releases";
+
+    private static final String ARTIFACT_BASE_PATH = "org/carlspring/strongbox/mmm/mmm-artifact";
+
+    @Inject
+    private MavenMetadataManager mavenMetadataManager;
+
+    @Inject
+    private MavenRepositoryFactory mavenRepositoryFactory;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+
+    @BeforeEach
+    public void init(TestInfo testInfo)
+            throws Exception
+    {
+        MutableRepository repository = mavenRepositoryFactory.createRepository(getRepositoryName(REPOSITORY_ID,
+                                                                                                 testInfo));
+        createRepository(STORAGE0, repository);
+    }
+
+    @AfterEach
+    public void removeRepositories(TestInfo testInfo)
+            throws Exception
+    {
+        Set<MutableRepository> repositories = new LinkedHashSet<>();
+        repositories.add(createRepositoryMock(STORAGE0,
+                                              getRepositoryName(REPOSITORY_ID, testInfo),
+                                              Maven2LayoutProvider.ALIAS));
+        removeRepositories(repositories);
+    }
+
+    @Test
+    public void cachedMetadataShouldFollowStoredMetadata(TestInfo testInfo)
+            throws Exception
+    {
+        Repository repository = getConfiguration().getStorage(STORAGE0)
+                                                  .getRepository(getRepositoryName(REPOSITORY_ID, testInfo));
+        RepositoryPath artifactBasePath = repositoryPathResolver.resolve(repository, ARTIFACT_BASE_PATH);
+        Files.createDirectories(artifactBasePath);
+
+        mavenMetadataManager.storeMetadata(artifactBasePath, null, metadata("1.0"), MetadataType.ARTIFACT_ROOT_LEVEL);
+
+        Metadata metadata = mavenMetadataManager.readMetadata(artifactBasePath);
+        assertEquals(Arrays.asList("1.0"), metadata.getVersioning().getVersions());
+
+        // Changes of the callers are not visible to the other callers.
+        metadata.getVersioning().addVersion("9.9");
+        assertEquals(Arrays.asList("1.0"), mavenMetadataManager.readMetadata(artifactBasePath)
+                                                               .getVersioning()
+                                                               .getVersions());
+
+        mavenMetadataManager.storeMetadata(artifactBasePath, null, metadata("1.0", "1.1"),
+                                           MetadataType.ARTIFACT_ROOT_LEVEL);
+        assertEquals(Arrays.asList("1.0", "1.1"), mavenMetadataManager.readMetadata(artifactBasePath)
+                                                                      .getVersioning()
+                                                                      .getVersions());
+
+        // The file written without the MavenMetadataManager is parsed again too.
+        RepositoryPath metadataPath = artifactBasePath.resolve("maven-metadata.xml");
+        String xml = new String(Files.readAllBytes(metadataPath), StandardCharsets.UTF_8);
+        Files.write(metadataPath,
+                    xml.replace("<version>1.1</version>", "<version>1.1</version><version>1.2</version>")
+                       .getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(Arrays.asList("1.0", "1.1", "1.2"), mavenMetadataManager.readMetadata(artifactBasePath)
+                                                                             .getVersioning()
+                                                                             .getVersions());
+    }
+
+    private Metadata metadata(String... versions)
+    {
+        Versioning versioning = new Versioning();
+        Arrays.stream(versions).forEach(versioning::addVersion);
+
+        Metadata metadata = new Metadata();
+        metadata.setGroupId("org.carlspring.strongbox.mmm");
+        metadata.setArtifactId("mmm-artifact");
+        metadata.setVersioning(versioning);
+
+        return metadata;
+    }
+
+}
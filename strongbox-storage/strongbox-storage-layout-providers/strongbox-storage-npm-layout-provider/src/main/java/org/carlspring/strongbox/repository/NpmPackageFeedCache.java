@@ -0,0 +1,265 @@
+package org.carlspring.strongbox.repository;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.layout.NpmLayoutProvider;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Node local cache of the serialized npm package feeds (packuments), so that popular packages with many versions are
+ * not searched, assembled and serialized on every {@code GET /{package}}.
+ * <br>
+ * The feeds are kept per repository and package, and are invalidated in all the repositories (which covers the
+ * groups) once a package file is stored or deleted, or the package feed fetched from remote brings new versions.
+ * The feeds of the proxy and group repositories are rebuilt after {@link #REMOTE_FEED_TTL_SECONDS} anyway, as the
+ * rebuild is what triggers the remote refresh.
+ */
+@Component
+public class NpmPackageFeedCache
+{
+
+    public static final int MAXIMUM_SIZE = 1000;
+
+    public static final long REMOTE_FEED_TTL_SECONDS = 60;
+
+    private static final Set<ArtifactEventTypeEnum> INVALIDATING_EVENT_TYPES = EnumSet.of(ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED,
+                                                                                          ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED,
+                                                                                          ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED,
+                                                                                          ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_FETCHED_FROM_REMOTE);
+
+    private final Cache<PackageFeedKey, CachedPackageFeed> cache = CacheBuilder.newBuilder()
+                                                                               .maximumSize(MAXIMUM_SIZE)
+                                                                               .build();
+
+    /**
+     * Feeds built while an invalidation happened may be outdated already, and are not cached.
+     */
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public CachedPackageFeed get(Repository repository,
+                                 String packageId,
+                                 PackageFeedLoader loader)
+        throws IOException
+    {
+        PackageFeedKey key = new PackageFeedKey(repository.getStorage().getId(), repository.getId(), packageId);
+
+        CachedPackageFeed packageFeed = cache.getIfPresent(key);
+        if (packageFeed != null && (repository.isHostedRepository() || !packageFeed.isOlderThan(REMOTE_FEED_TTL_SECONDS)))
+        {
+            return packageFeed;
+        }
+
+        long invalidations = invalidationCount.get();
+        packageFeed = new CachedPackageFeed(loader.load());
+        if (invalidations == invalidationCount.get())
+        {
+            cache.put(key, packageFeed);
+        }
+
+        return packageFeed;
+    }
+
+    public void invalidate(String packageId)
+    {
+        invalidate(k -> k.packageId.equals(packageId));
+    }
+
+    public void invalidateAll()
+    {
+        invalidationCount.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public long size()
+    {
+        return cache.size();
+    }
+
+    private void invalidate(Predicate<PackageFeedKey> predicate)
+    {
+        invalidationCount.incrementAndGet();
+        cache.asMap().keySet().removeIf(predicate);
+    }
+
+    /**
+     * Invalidates after the commit, so that the feed rebuilt right after sees the stored artifact entries.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(final ArtifactEvent<RepositoryPath> event)
+        throws IOException
+    {
+        if (INVALIDATING_EVENT_TYPES.stream().noneMatch(t -> t.getType() == event.getType()))
+        {
+            return;
+        }
+
+        RepositoryPath repositoryPath = event.getPath();
+        if (!NpmLayoutProvider.ALIAS.equals(repositoryPath.getRepository().getLayout()))
+        {
+            return;
+        }
+
+        // Package paths are `{scope}/{name}/{version}/{file}` for the scoped packages and `{name}/{name}/{version}/{file}`
+        // for the others.
+        String[] pathElements = Arrays.stream(RepositoryFiles.relativizePath(repositoryPath).split("/"))
+                                      .filter(e -> !e.isEmpty())
+                                      .toArray(String[]::new);
+        if (pathElements.length == 0)
+        {
+            invalidateAll();
+        }
+        else if (!pathElements[0].startsWith("@"))
+        {
+            invalidate(pathElements[0]);
+        }
+        else if (pathElements.length == 1)
+        {
+            String scopePrefix = pathElements[0] + "/";
+            invalidate(k -> k.packageId.startsWith(scopePrefix));
+        }
+        else
+        {
+            invalidate(pathElements[0] + "/" + pathElements[1]);
+        }
+    }
+
+    /**
+     * Serialized package feed, with its gzip encoded form and the ETags of both. The gzip encoded form is a different
+     * representation, so it has its own ETag.
+     */
+    public static class CachedPackageFeed
+    {
+
+        private final byte[] content;
+
+        private final byte[] gzipContent;
+
+        private final String eTag;
+
+        private final String gzipETag;
+
+        private final long created = System.nanoTime();
+
+        private CachedPackageFeed(byte[] content)
+            throws IOException
+        {
+            this.content = content;
+            this.gzipContent = gzip(content);
+            String digest = DigestUtils.sha1Hex(content);
+            this.eTag = "\"" + digest + "\"";
+            this.gzipETag = "\"" + digest + "-gzip\"";
+        }
+
+        public byte[] getContent()
+        {
+            return content;
+        }
+
+        public byte[] getGzipContent()
+        {
+            return gzipContent;
+        }
+
+        public String getETag()
+        {
+            return eTag;
+        }
+
+        public String getGzipETag()
+        {
+            return gzipETag;
+        }
+
+        private boolean isOlderThan(long seconds)
+        {
+            return System.nanoTime() - created > TimeUnit.SECONDS.toNanos(seconds);
+        }
+
+        private static byte[] gzip(byte[] content)
+            throws IOException
+        {
+            ByteArrayOutputStream result = new ByteArrayOutputStream(content.length / 4 + 64);
+            try (GZIPOutputStream os = new GZIPOutputStream(result))
+            {
+                os.write(content);
+            }
+
+            return result.toByteArray();
+        }
+
+    }
+
+    @FunctionalInterface
+    public interface PackageFeedLoader
+    {
+
+        byte[] load()
+            throws IOException;
+
+    }
+
+    private static class PackageFeedKey
+    {
+
+        private final String storageId;
+
+        private final String repositoryId;
+
+        private final String packageId;
+
+        private PackageFeedKey(String storageId,
+                               String repositoryId,
+                               String packageId)
+        {
+            this.storageId = storageId;
+            this.repositoryId = repositoryId;
+            this.packageId = packageId;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+
+            PackageFeedKey that = (PackageFeedKey) o;
+
+            return storageId.equals(that.storageId) && repositoryId.equals(that.repositoryId) &&
+                   packageId.equals(that.packageId);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(storageId, repositoryId, packageId);
+        }
+
+    }
+
+}
@@ -77,26 +77,35 @@ public class NpmPackageFeedParser
         saveArtifactEntrySet(repository, artifactToSaveSet);
     }
 
-    private void saveArtifactEntrySet(Repository repository,
-                                      Set<ArtifactEntry> artifactToSaveSet)
+    private int saveArtifactEntrySet(Repository repository,
+                                     Set<ArtifactEntry> artifactToSaveSet)
         throws IOException
     {
+        int result = 0;
         for (ArtifactEntry e : artifactToSaveSet)
         {
             RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository).resolve(e);
 
-            saveArtifactEntry(repositoryPath);
+            if (saveArtifactEntry(repositoryPath))
+            {
+                result++;
+            }
         }
+
+        return result;
     }
 
+    /**
+     * @return the number of the package versions which were not stored before
+     */
     @Transactional
-    public void parseFeed(Repository repository,
-                          PackageFeed packageFeed)
+    public int parseFeed(Repository repository,
+                         PackageFeed packageFeed)
         throws IOException
     {
         if (packageFeed == null)
         {
-            return;
+            return 0;
         }
 
         String repositoryId = repository.getId();
@@ -107,13 +116,13 @@ public class NpmPackageFeedParser
         Versions versions = packageFeed.getVersions();
         if (versions == null)
         {
-            return;
+            return 0;
         }
 
         Map<String, PackageVersion> versionMap = versions.getAdditionalProperties();
         if (versionMap == null || versionMap.isEmpty())
         {
-            return;
+            return 0;
         }
 
         Set<ArtifactEntry> artifactToSaveSet = new HashSet<>();
@@ -133,11 +142,10 @@ public class NpmPackageFeedParser
             artifactToSaveSet.add(remoteArtifactEntry);
         }
 
-        saveArtifactEntrySet(repository, artifactToSaveSet);
-
+        return saveArtifactEntrySet(repository, artifactToSaveSet);
     }
 
-    private void saveArtifactEntry(RepositoryPath repositoryPath)
+    private boolean saveArtifactEntry(RepositoryPath repositoryPath)
         throws IOException
     {
         ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
@@ -152,7 +160,7 @@ public class NpmPackageFeedParser
             if (artifactEntryService.artifactExists(e.getStorageId(), e.getRepositoryId(),
                                                     e.getArtifactCoordinates().toPath()))
             {
-                return;
+                return false;
             }
 
             if (e.getTagSet().contains(lastVersionTag))
@@ -163,6 +171,8 @@ public class NpmPackageFeedParser
             {
                 artifactEntryService.save(e, false);
             }
+
+            return true;
         } 
         finally
         {
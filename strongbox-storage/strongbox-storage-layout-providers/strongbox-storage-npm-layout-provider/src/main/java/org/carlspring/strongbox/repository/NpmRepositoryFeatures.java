@@ -1,5 +1,6 @@
 package org.carlspring.strongbox.repository;
 
+import org.carlspring.strongbox.artifact.coordinates.NpmArtifactCoordinates;
 import org.carlspring.strongbox.config.NpmLayoutProviderConfig.NpmObjectMapper;
 import org.carlspring.strongbox.configuration.Configuration;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
@@ -11,7 +12,9 @@ import org.carlspring.strongbox.domain.RemoteArtifactEntry;
 import org.carlspring.strongbox.npm.NpmSearchRequest;
 import org.carlspring.strongbox.npm.NpmViewRequest;
 import org.carlspring.strongbox.npm.metadata.Change;
+import org.carlspring.strongbox.npm.metadata.PackageEntry;
 import org.carlspring.strongbox.npm.metadata.PackageFeed;
+import org.carlspring.strongbox.npm.metadata.SearchResult;
 import org.carlspring.strongbox.npm.metadata.SearchResults;
 import org.carlspring.strongbox.providers.repository.event.RemoteRepositorySearchEvent;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
@@ -90,6 +93,9 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
     @Inject
     private NpmPackageFeedParser npmPackageFeedParser;
 
+    @Inject
+    private NpmPackageFeedCache npmPackageFeedCache;
+
     private Set<String> defaultArtifactCoordinateValidators;
 
     @PostConstruct
@@ -156,6 +162,22 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
         {
             logger.error(String.format("Failed to parse NPM packages search result for [%s]", remoteRepositoryUrl), e);
         }
+        finally
+        {
+            List<SearchResult> objects = searchResults.getObjects();
+            for (SearchResult searchResult : objects == null ? Collections.<SearchResult>emptyList() : objects)
+            {
+                PackageEntry packageEntry = searchResult == null ? null : searchResult.getPackage();
+                if (packageEntry == null)
+                {
+                    continue;
+                }
+
+                String scope = packageEntry.getScope();
+                npmPackageFeedCache.invalidate(NpmArtifactCoordinates.caclulatePackageId("unscoped".equals(scope) ? null : scope,
+                                                                                         packageEntry.getName()));
+            }
+        }
     }
 
     public void fetchRemoteChangesFeed(String storageId,
@@ -279,18 +301,7 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
                 }
 
                 PackageFeed packageFeed = change.getDoc();
-                try
-                {
-                    npmPackageFeedParser.parseFeed(repository, packageFeed);
-                }
-                catch (Exception e)
-                {
-                    logger.error(String.format("Failed to parse NPM feed [%s/%s]",
-                                               repository.getRemoteRepository().getUrl(),
-                                               packageFeed.getName()),
-                                 e);
-
-                }
+                parseFeed(repository, packageFeed);
 
                 result = change.getSeq();
                 sb = new StringBuffer();
@@ -345,9 +356,20 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
             restClient.close();
         }
 
+        parseFeed(repository, packageFeed);
+    }
+
+    /**
+     * The cached package feed is invalidated only if the remote feed brought new versions, as the remote feed is
+     * fetched while the cached one is rebuilt, and the proxy and group feeds expire on their own.
+     */
+    private void parseFeed(Repository repository,
+                           PackageFeed packageFeed)
+    {
+        boolean changed = true;
         try
         {
-            npmPackageFeedParser.parseFeed(repository, packageFeed);
+            changed = npmPackageFeedParser.parseFeed(repository, packageFeed) > 0;
         }
         catch (Exception e)
         {
@@ -356,6 +378,11 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
                                        packageFeed.getName()),
                          e);
         }
+
+        if (changed && packageFeed != null && packageFeed.getName() != null)
+        {
+            npmPackageFeedCache.invalidate(packageFeed.getName());
+        }
     }
 
     @Component
@@ -2,9 +2,11 @@ package org.carlspring.strongbox.artifact.coordinates;
 
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
@@ -25,10 +27,22 @@ public class PathNupkg implements Nupkg
 
     private static final Logger logger = LoggerFactory.getLogger(PathNupkg.class);
 
+    /**
+     * The `.nuspec` source, stored within the {@link org.carlspring.strongbox.domain.ArtifactEntry} metadata.
+     */
+    public static final String NUSPEC_METADATA = "nuspec";
+
+    /**
+     * The Base64 encoded package hash, stored within the {@link org.carlspring.strongbox.domain.ArtifactEntry}
+     * metadata.
+     */
+    public static final String HASH_METADATA = "hash";
+
     private RepositoryPath path;
     private NuspecFile nuspecFile;
     private Hash hash;
     private NugetArtifactCoordinates artifactCoordinates;
+    private Map<String, String> artifactMetadata;
     private boolean exists;
 
     public PathNupkg(RepositoryPath path)
@@ -41,6 +55,7 @@ public class PathNupkg implements Nupkg
         
         this.path = path;
         this.artifactCoordinates = (NugetArtifactCoordinates) path.getArtifactEntry().getArtifactCoordinates();
+        this.artifactMetadata = path.getArtifactEntry().getArtifactMetadata();
         this.nuspecFile = createNuspecFile();
         this.hash = createHash();
     }
@@ -68,6 +83,12 @@ public class PathNupkg implements Nupkg
         throws IOException,
         UnsupportedEncodingException
     {
+        String hashMetadata = artifactMetadata.get(HASH_METADATA);
+        if (hashMetadata != null)
+        {
+            return new Hash(Base64.getDecoder().decode(hashMetadata.getBytes("UTF-8")));
+        }
+
         Map<String, RepositoryPath> checksumPathMap = path.getFileSystem().provider().resolveChecksumPathMap(path);
         if (checksumPathMap.isEmpty())
         {
@@ -100,6 +121,13 @@ public class PathNupkg implements Nupkg
     private NuspecFile createNuspecFile()
         throws NugetFormatException
     {
+        String nuspecMetadata = artifactMetadata.get(NUSPEC_METADATA);
+        if (nuspecMetadata != null)
+        {
+            exists = true;
+            return NuspecFile.Parse(new ByteArrayInputStream(nuspecMetadata.getBytes(StandardCharsets.UTF_8)));
+        }
+
         RepositoryPath nuspecPath = path.resolveSibling(artifactCoordinates.getId() + ".nuspec");
         if (!Files.exists(nuspecPath))
         {
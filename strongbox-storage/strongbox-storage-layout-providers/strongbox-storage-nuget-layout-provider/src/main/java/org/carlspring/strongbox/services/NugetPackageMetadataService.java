@@ -0,0 +1,71 @@
+package org.carlspring.strongbox.services;
+
+import org.carlspring.strongbox.artifact.coordinates.PathNupkg;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the `.nuspec` and the hash of the uploaded NuGet packages within their {@link ArtifactEntry}, so that the
+ * package feeds are generated without reading them from the repository for every package.
+ *
+ * @see PathNupkg
+ */
+@Component
+public class NugetPackageMetadataService
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(NugetPackageMetadataService.class);
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private RepositoryPathLock repositoryPathLock;
+
+    public void storeMetadata(RepositoryPath nupkgPath,
+                              String nuspec,
+                              String hash)
+        throws IOException
+    {
+        // The entry is updated concurrently by the async artifact entry handlers, so it's fetched and saved under
+        // their lock.
+        Lock lock = repositoryPathLock.lock(nupkgPath, ArtifactEntry.class.getSimpleName()).writeLock();
+        lock.lock();
+        try
+        {
+            RepositoryFiles.invalidateArtifactEntry(nupkgPath);
+
+            ArtifactEntry artifactEntry = nupkgPath.getArtifactEntry();
+            if (artifactEntry == null)
+            {
+                logger.warn(String.format("No [%s] for [%s].", ArtifactEntry.class.getSimpleName(), nupkgPath));
+
+                return;
+            }
+
+            Map<String, String> artifactMetadata = artifactEntry.getArtifactMetadata();
+            artifactMetadata.put(PathNupkg.NUSPEC_METADATA, nuspec);
+            artifactMetadata.put(PathNupkg.HASH_METADATA, hash);
+
+            artifactEntryService.save(artifactEntry);
+        }
+        finally
+        {
+            RepositoryFiles.invalidateArtifactEntry(nupkgPath);
+
+            lock.unlock();
+        }
+    }
+
+}
@@ -1,6 +1,9 @@
 package org.carlspring.strongbox.controllers;
 
+import org.carlspring.commons.http.range.ByteRange;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
+import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactResolver;
 import org.carlspring.strongbox.services.ArtifactManagementService;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
@@ -9,7 +12,7 @@ import org.carlspring.strongbox.utils.ArtifactControllerHelper;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.InputStream;
+import java.util.List;
 
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -31,6 +34,9 @@ public abstract class BaseArtifactController
     @Inject
     protected ArtifactManagementService artifactManagementService;
 
+    @Inject
+    private ProxyRepositoryArtifactResolver proxyRepositoryArtifactResolver;
+
 
     @ApiOperation(value = "Used to deploy an artifact")
     @ApiResponses(value = { @ApiResponse(code = 200, message = "The artifact was deployed successfully."),
@@ -78,21 +84,45 @@ public abstract class BaseArtifactController
     {
         logger.debug("Resolved path: " + repositoryPath);
         
-        ArtifactControllerHelper.provideArtifactHeaders(response, repositoryPath);
+        boolean downloading = repositoryPath != null && proxyRepositoryArtifactResolver.isDownloading(repositoryPath);
+        if (downloading)
+        {
+            ArtifactControllerHelper.provideDownloadingArtifactHeaders(response, repositoryPath);
+        }
+        else
+        {
+            ArtifactControllerHelper.provideArtifactHeaders(response, repositoryPath);
+        }
+
         if (response.getStatus() == HttpStatus.NOT_FOUND.value())
         {
             return false;
         }
+        else if (!downloading && ArtifactControllerHelper.isNotModified(request, response))
+        {
+            logger.debug(String.format("Not modified [%s]", repositoryPath));
+
+            return true;
+        }
         else if (request.getMethod().equals(RequestMethod.HEAD.name()))
         {
             return true;
         }
 
-        InputStream is = artifactResolutionService.getInputStream(repositoryPath);
-        if (ArtifactControllerHelper.isRangedRequest(httpHeaders))
+        RepositoryInputStream is = artifactResolutionService.getInputStream(repositoryPath);
+        // The length of the artifact which is still being downloaded is unknown, so it is served as a whole.
+        if (!downloading && ArtifactControllerHelper.isRangedRequest(httpHeaders))
         {
             logger.debug("Detected ranged request.");
 
+            List<ByteRange> byteRanges = ArtifactControllerHelper.getByteRanges(httpHeaders);
+            if (byteRanges.size() > 1)
+            {
+                transferRangesToResponse(is, byteRanges, response);
+
+                return true;
+            }
+
             ArtifactControllerHelper.handlePartialDownload(is, httpHeaders, response);
         }
 
@@ -1,5 +1,6 @@
 package org.carlspring.strongbox.controllers;
 
+import org.carlspring.commons.http.range.ByteRange;
 import org.carlspring.strongbox.configuration.Configuration;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.configuration.MutableConfiguration;
@@ -7,15 +8,18 @@ import org.carlspring.strongbox.controllers.support.ErrorResponseEntityBody;
 import org.carlspring.strongbox.controllers.support.ListEntityBody;
 import org.carlspring.strongbox.controllers.support.ResponseEntityBody;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
 import org.carlspring.strongbox.resource.ResourceCloser;
 import org.carlspring.strongbox.services.ArtifactResolutionService;
 import org.carlspring.strongbox.services.ConfigurationManagementService;
+import org.carlspring.strongbox.utils.ArtifactControllerHelper;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.util.List;
 
 import org.apache.commons.collections.IteratorUtils;
@@ -36,6 +40,8 @@ import org.springframework.http.ResponseEntity;
 public abstract class BaseController
 {
 
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     @Inject
@@ -267,12 +273,11 @@ public abstract class BaseController
             long totalBytes = 0L;
 
             int readLength;
-            byte[] bytes = new byte[4096];
+            byte[] bytes = new byte[COPY_BUFFER_SIZE];
             while ((readLength = is.read(bytes, 0, bytes.length)) != -1)
             {
                 // Write the artifact
                 os.write(bytes, 0, readLength);
-                os.flush();
 
                 totalBytes += readLength;
             }
@@ -287,4 +292,49 @@ public abstract class BaseController
         }
     }
 
+    /**
+     * Sends the given ranges of the file behind the stream as {@code multipart/byteranges}. If the stream is not
+     * backed by a local file, the ranges are ignored and the whole content is sent.
+     */
+    protected void transferRangesToResponse(RepositoryInputStream is,
+                                            List<ByteRange> byteRanges,
+                                            HttpServletResponse response)
+            throws IOException
+    {
+        FileChannel fileChannel = openFileChannel(is);
+        if (fileChannel == null)
+        {
+            copyToResponse(is, response);
+
+            return;
+        }
+
+        OutputStream os = response.getOutputStream();
+
+        try
+        {
+            ArtifactControllerHelper.handlePartialDownloadWithMultipleRanges(fileChannel, byteRanges, response);
+        }
+        finally
+        {
+            ResourceCloser.close(fileChannel, logger);
+            ResourceCloser.close(is, logger);
+            ResourceCloser.close(os, logger);
+        }
+    }
+
+    private FileChannel openFileChannel(RepositoryInputStream is)
+            throws IOException
+    {
+        try
+        {
+            return is.openFileChannel();
+        }
+        catch (IOException | RuntimeException e)
+        {
+            ResourceCloser.close(is, logger);
+            throw e;
+        }
+    }
+
 }
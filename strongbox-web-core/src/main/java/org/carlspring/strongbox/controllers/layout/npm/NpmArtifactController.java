@@ -7,9 +7,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
@@ -18,7 +18,6 @@ import java.util.List;
 import java.util.Optional;
 
 import javax.inject.Inject;
-import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.MediaType;
@@ -27,6 +26,7 @@ import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.carlspring.strongbox.artifact.ArtifactTag;
 import org.carlspring.strongbox.artifact.coordinates.NpmArtifactCoordinates;
 import org.carlspring.strongbox.config.NpmLayoutProviderConfig.NpmObjectMapper;
@@ -49,12 +49,15 @@ import org.carlspring.strongbox.providers.layout.NpmPackageSupplier;
 import org.carlspring.strongbox.providers.layout.NpmSearchResultSupplier;
 import org.carlspring.strongbox.providers.repository.RepositoryProvider;
 import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
+import org.carlspring.strongbox.repository.NpmPackageFeedCache;
+import org.carlspring.strongbox.repository.NpmPackageFeedCache.CachedPackageFeed;
 import org.carlspring.strongbox.repository.NpmRepositoryFeatures.SearchPackagesEventListener;
 import org.carlspring.strongbox.repository.NpmRepositoryFeatures.ViewPackageEventListener;
 import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.storage.ArtifactStorageException;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.validation.artifact.ArtifactCoordinatesValidationException;
-import org.javatuples.Pair;
+import org.carlspring.strongbox.utils.ArtifactControllerHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
@@ -114,6 +117,9 @@ public class NpmArtifactController extends BaseArtifactController
 
     @Inject
     private NpmSearchResultSupplier npmSearchResultSupplier;
+
+    @Inject
+    private NpmPackageFeedCache npmPackageFeedCache;
     
     @Inject
     private ViewPackageEventListener viewPackageEventListener;
@@ -219,6 +225,7 @@ public class NpmArtifactController extends BaseArtifactController
                                          @PathVariable(name = "repositoryId") String repositoryId,
                                          @PathVariable(name = "packageScope") String packageScope,
                                          @PathVariable(name = "packageName") String packageName,
+                                         HttpServletRequest request,
                                          HttpServletResponse response)
         throws Exception
     {
@@ -230,6 +237,39 @@ public class NpmArtifactController extends BaseArtifactController
         
         Repository repository = getRepository(storageId, repositoryId);
 
+        CachedPackageFeed packageFeed = npmPackageFeedCache.get(repository, packageId,
+                                                                () -> npmJacksonMapper.writeValueAsBytes(createPackageFeed(repository,
+                                                                                                                           packageScope,
+                                                                                                                           packageName)));
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.ETAG, gzip ? packageFeed.getGzipETag() : packageFeed.getETag());
+        if (ArtifactControllerHelper.isNotModified(request, response))
+        {
+            return;
+        }
+
+        byte[] content = packageFeed.getContent();
+        if (gzip)
+        {
+            content = packageFeed.getGzipContent();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON);
+        response.setContentLength(content.length);
+        response.getOutputStream().write(content);
+    }
+
+    private PackageFeed createPackageFeed(Repository repository,
+                                          String packageScope,
+                                          String packageName)
+    {
+        String packageId = NpmArtifactCoordinates.caclulatePackageId(packageScope, packageName);
+
         PackageFeed packageFeed = new PackageFeed();
 
         packageFeed.setName(packageId);
@@ -242,7 +282,8 @@ public class NpmArtifactController extends BaseArtifactController
         Paginator paginator = new Paginator();
         paginator.setProperty("version");
 
-        List<Path> searchResult = provider.search(storageId, repositoryId, predicate, paginator);
+        List<Path> searchResult = provider.search(repository.getStorage().getId(), repository.getId(), predicate,
+                                                  paginator);
 
         Versions versions = new Versions();
         packageFeed.setVersions(versions);
@@ -273,8 +314,7 @@ public class NpmArtifactController extends BaseArtifactController
 
         });
 
-        response.setContentType(MediaType.APPLICATION_JSON);
-        response.getOutputStream().write(npmJacksonMapper.writeValueAsBytes(packageFeed));
+        return packageFeed;
     }
 
     @GetMapping(path = "{storageId}/{repositoryId}/{packageName}")
@@ -282,10 +322,11 @@ public class NpmArtifactController extends BaseArtifactController
     public void viewPackageFeed(@PathVariable(name = "storageId") String storageId,
                                 @PathVariable(name = "repositoryId") String repositoryId,
                                 @PathVariable(name = "packageName") String packageName,
+                                HttpServletRequest request,
                                 HttpServletResponse response)
         throws Exception
     {
-        viewPackageFeedWithScope(storageId, repositoryId, null, packageName, response);
+        viewPackageFeedWithScope(storageId, repositoryId, null, packageName, request, response);
     }
 
     private Predicate createSearchPredicate(String packageScope,
@@ -372,10 +413,11 @@ public class NpmArtifactController extends BaseArtifactController
     {
         logger.info(String.format("npm publish request for [%s]/[%s]/[%s]", storageId,
                                   repositoryId, name));
-        Pair<PackageVersion, Path> packageEntry;
+
+        Repository repository = getRepository(storageId, repositoryId);
         try
         {
-            packageEntry = extractPackage(name, request.getInputStream());
+            publishPackage(repository, name, request.getInputStream());
         }
         catch (IllegalArgumentException e)
         {
@@ -383,68 +425,27 @@ public class NpmArtifactController extends BaseArtifactController
             return ResponseEntity.badRequest().build();
         }
 
-        PackageVersion packageJson = packageEntry.getValue0();
-        Path packageTgz = packageEntry.getValue1();
-
-        Repository repository = getRepository(storageId, repositoryId);
-        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of(name, packageJson.getVersion());
-
-        storeNpmPackage(repository, coordinates, packageJson, packageTgz);
-
         return ResponseEntity.ok("");
     }
 
-    private void storeNpmPackage(Repository repository,
-                                 NpmArtifactCoordinates coordinates,
-                                 PackageVersion packageDef,
-                                 Path packageTgzTmp)
+    /**
+     * Parses the npm package source in a single pass, and stores the package tarball while its base64 attachment is
+     * being decoded. Only when the attachment precedes the package version it has to wait in a temporary file.
+     */
+    private void publishPackage(Repository repository,
+                                String packageName,
+                                InputStream in)
         throws IOException,
                ProviderImplementationException,
                NoSuchAlgorithmException,
                ArtifactCoordinatesValidationException
     {
-        RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, coordinates);
-        try (InputStream is = new BufferedInputStream(Files.newInputStream(packageTgzTmp)))
-        {
-            npmArtifactManagementService.validateAndStore(repositoryPath, is);
-        }
-
-        Path packageJsonTmp = extractPackageJson(packageTgzTmp);
-        RepositoryPath packageJsonPath = repositoryPathResolver.resolve(repository, repositoryPath.resolveSibling("package.json"));
-        try (InputStream is = new BufferedInputStream(Files.newInputStream(packageJsonTmp)))
-        {
-            npmArtifactManagementService.validateAndStore(packageJsonPath, is);
-        }
-
-        String shasum = Optional.ofNullable(packageDef.getDist()).map(p -> p.getShasum()).orElse(null);
-        if (shasum == null)
-        {
-            logger.warn(String.format("No checksum provided for package [%s]", packageDef.getName()));
-            return;
-        }
-
-        String packageFileName = repositoryPath.getFileName().toString();
-        RepositoryPath checksumPath = repositoryPath.resolveSibling(packageFileName + ".sha1");
-        npmArtifactManagementService.validateAndStore(checksumPath,
-                                                      new ByteArrayInputStream(shasum.getBytes("UTF-8")));
-
-        Files.delete(packageTgzTmp);
-        Files.delete(packageJsonTmp);
-    }
-
-    private Pair<PackageVersion, Path> extractPackage(String packageName,
-                                                      ServletInputStream in)
-        throws IOException
-    {
-        Path packageSourceTmp = Files.createTempFile("package", "source");
-        Files.copy(in, packageSourceTmp, StandardCopyOption.REPLACE_EXISTING);
-
         PackageVersion packageVersion = null;
-        Path packageTgzPath = null;
+        RepositoryPath packagePath = null;
+        Path packageTgzTmp = null;
 
         JsonFactory jfactory = new JsonFactory();
-        try (InputStream tmpIn = new BufferedInputStream(Files.newInputStream(packageSourceTmp));
-             JsonParser jp = jfactory.createParser(tmpIn);)
+        try (JsonParser jp = jfactory.createParser(in))
         {
             jp.setCodec(npmJacksonMapper);
 
@@ -478,7 +479,14 @@ public class NpmArtifactController extends BaseArtifactController
                     logger.info(String.format("Found npm package attachment [%s]", packageAttachmentName));
 
                     moveToAttachment(jp, packageAttachmentName);
-                    packageTgzPath = extractPackage(jp);
+                    if (packageVersion != null)
+                    {
+                        packagePath = storePackage(repository, packageName, packageVersion, jp);
+                    }
+                    else
+                    {
+                        packageTgzTmp = extractPackage(jp);
+                    }
 
                     jp.nextToken();
                     jp.nextToken();
@@ -486,17 +494,126 @@ public class NpmArtifactController extends BaseArtifactController
                     break;
                 }
             }
+
+            if (packageVersion == null || (packagePath == null && packageTgzTmp == null))
+            {
+                throw new IllegalArgumentException(
+                        String.format("Failed to parse npm package source for [%s], attachment not found", packageName));
+            }
+
+            if (packagePath == null)
+            {
+                packagePath = storePackage(repository, packageName, packageVersion, packageTgzTmp);
+            }
+        }
+        finally
+        {
+            if (packageTgzTmp != null)
+            {
+                Files.deleteIfExists(packageTgzTmp);
+            }
+        }
+
+        storePackageJson(repository, packagePath);
+        storePackageShasum(packagePath, packageVersion);
+    }
+
+    private RepositoryPath storePackage(Repository repository,
+                                        String packageName,
+                                        PackageVersion packageVersion,
+                                        JsonParser jp)
+        throws IOException,
+               ProviderImplementationException,
+               NoSuchAlgorithmException,
+               ArtifactCoordinatesValidationException
+    {
+        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of(packageName, packageVersion.getVersion());
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, coordinates);
+
+        // The length is validated before the store is committed, so that an invalid tarball is never stored.
+        try
+        {
+            npmArtifactManagementService.validateAndStore(repositoryPath, os -> {
+                CountingOutputStream packageOut = new CountingOutputStream(os);
+                jp.readBinaryValue(packageOut);
+
+                validatePackageLength(jp, packageOut.getByteCount());
+
+                return packageOut.getByteCount();
+            });
+        }
+        catch (ArtifactStorageException e)
+        {
+            if (e.getCause() instanceof IllegalArgumentException)
+            {
+                throw (IllegalArgumentException) e.getCause();
+            }
+
+            throw e;
         }
 
-        Files.delete(packageSourceTmp);
+        return repositoryPath;
+    }
 
-        if (packageVersion == null || packageTgzPath == null)
+    private RepositoryPath storePackage(Repository repository,
+                                        String packageName,
+                                        PackageVersion packageVersion,
+                                        Path packageTgzTmp)
+        throws IOException,
+               ProviderImplementationException,
+               NoSuchAlgorithmException,
+               ArtifactCoordinatesValidationException
+    {
+        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of(packageName, packageVersion.getVersion());
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, coordinates);
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(packageTgzTmp)))
         {
-            throw new IllegalArgumentException(
-                    String.format("Failed to parse npm package source for [%s], attachment not found", packageName));
+            npmArtifactManagementService.validateAndStore(repositoryPath, is);
         }
 
-        return Pair.with(packageVersion, packageTgzPath);
+        return repositoryPath;
+    }
+
+    /**
+     * The `package.json` is usually the first entry of the tarball, so only its beginning is read back.
+     */
+    private void storePackageJson(Repository repository,
+                                  RepositoryPath packagePath)
+        throws IOException,
+               ProviderImplementationException,
+               NoSuchAlgorithmException,
+               ArtifactCoordinatesValidationException
+    {
+        String packageJsonSource;
+        try (InputStream packageTgzIn = new BufferedInputStream(Files.newInputStream(packagePath)))
+        {
+            packageJsonSource = extrectPackageJson(packageTgzIn);
+        }
+        Assert.notNull(packageJsonSource, String.format("Package [%s] doesn't contain package.json.", packagePath));
+
+        RepositoryPath packageJsonPath = repositoryPathResolver.resolve(repository, packagePath.resolveSibling("package.json"));
+        npmArtifactManagementService.validateAndStore(packageJsonPath,
+                                                      new ByteArrayInputStream(packageJsonSource.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void storePackageShasum(RepositoryPath packagePath,
+                                    PackageVersion packageDef)
+        throws IOException,
+               ProviderImplementationException,
+               NoSuchAlgorithmException,
+               ArtifactCoordinatesValidationException
+    {
+        String shasum = Optional.ofNullable(packageDef.getDist()).map(p -> p.getShasum()).orElse(null);
+        if (shasum == null)
+        {
+            logger.warn(String.format("No checksum provided for package [%s]", packageDef.getName()));
+            return;
+        }
+
+        String packageFileName = packagePath.getFileName().toString();
+        RepositoryPath checksumPath = packagePath.resolveSibling(packageFileName + ".sha1");
+        npmArtifactManagementService.validateAndStore(checksumPath,
+                                                      new ByteArrayInputStream(shasum.getBytes(StandardCharsets.UTF_8)));
     }
 
     private Path extractPackage(JsonParser jp)
@@ -509,29 +626,20 @@ public class NpmArtifactController extends BaseArtifactController
             jp.readBinaryValue(packageTgzOut);
         }
 
-        long packageSize = Files.size(packageTgzTmp);
-
-        Assert.isTrue(FIELD_NAME_LENGTH.equals(jp.nextFieldName()), "Failed to validate package content length.");
-        jp.nextToken();
-
-        Assert.isTrue(packageSize == jp.getLongValue(), "Invalid package content length.");
-        jp.nextToken();
+        validatePackageLength(jp, Files.size(packageTgzTmp));
 
         return packageTgzTmp;
     }
 
-    private Path extractPackageJson(Path packageTgzTmp)
+    private void validatePackageLength(JsonParser jp,
+                                       long packageSize)
         throws IOException
     {
-        String packageJsonSource;
-        try (InputStream packageTgzIn = new BufferedInputStream(Files.newInputStream(packageTgzTmp)))
-        {
-            packageJsonSource = extrectPackageJson(packageTgzIn);
-        }
-        Path packageJsonTmp = Files.createTempFile("package", "json");
-        Files.write(packageJsonTmp, packageJsonSource.getBytes("UTF-8"), StandardOpenOption.TRUNCATE_EXISTING);
+        Assert.isTrue(FIELD_NAME_LENGTH.equals(jp.nextFieldName()), "Failed to validate package content length.");
+        jp.nextToken();
 
-        return packageJsonTmp;
+        Assert.isTrue(packageSize == jp.getLongValue(), "Invalid package content length.");
+        jp.nextToken();
     }
 
     private void moveToAttachment(JsonParser jp,
@@ -18,6 +18,7 @@ import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
 import org.carlspring.strongbox.repository.NugetRepositoryFeatures.RepositorySearchEventListener;
 import org.carlspring.strongbox.services.ArtifactManagementService;
 import org.carlspring.strongbox.services.ArtifactTagService;
+import org.carlspring.strongbox.services.NugetPackageMetadataService;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
 
@@ -30,6 +31,7 @@ import javax.xml.bind.JAXBException;
 import java.io.*;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -92,6 +94,9 @@ public class NugetArtifactController extends BaseArtifactController
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
+    @Inject
+    private NugetPackageMetadataService nugetPackageMetadataService;
+
 
     @DeleteMapping(path = { "{storageId}/{repositoryId}/{packageId}/{version}" })
     @PreAuthorize("hasAuthority('ARTIFACTS_DEPLOY')")
@@ -658,8 +663,8 @@ public class NugetArtifactController extends BaseArtifactController
                                         nupkgFile.getId(),
                                         nupkgFile.getVersion());
 
-            RepositoryPath repositoryPath = repositoryPathResolver.resolve(storageId, repositoryId, path);
-            nugetArtifactManagementService.validateAndStore(repositoryPath, nupkgFile.getStream());
+            RepositoryPath nupkgPath = repositoryPathResolver.resolve(storageId, repositoryId, path);
+            nugetArtifactManagementService.validateAndStore(nupkgPath, nupkgFile.getStream());
 
             Path nuspecFile = Files.createTempFile(nupkgFile.getId(), "nuspec");
             try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(nuspecFile)))
@@ -667,7 +672,7 @@ public class NugetArtifactController extends BaseArtifactController
                 nupkgFile.getNuspecFile().saveTo(outputStream);
             }
             path = String.format("%s/%s/%s.nuspec", nupkgFile.getId(), nupkgFile.getVersion(), nupkgFile.getId());
-            repositoryPath = repositoryPathResolver.resolve(storageId, repositoryId, path);
+            RepositoryPath repositoryPath = repositoryPathResolver.resolve(storageId, repositoryId, path);
             try (InputStream bis = new BufferedInputStream(Files.newInputStream(nuspecFile)))
             {
                 nugetArtifactManagementService.validateAndStore(repositoryPath, bis);
@@ -691,6 +696,10 @@ public class NugetArtifactController extends BaseArtifactController
             {
                 nugetArtifactManagementService.validateAndStore(repositoryPath, bis);
             }
+
+            nugetPackageMetadataService.storeMetadata(nupkgPath,
+                                                      new String(Files.readAllBytes(nuspecFile), StandardCharsets.UTF_8),
+                                                      new String(Files.readAllBytes(hashFile), StandardCharsets.UTF_8).trim());
         }
 
         return new URI("");
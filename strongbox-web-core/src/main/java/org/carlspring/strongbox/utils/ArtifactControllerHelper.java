@@ -4,25 +4,36 @@ import org.carlspring.commons.http.range.ByteRange;
 import org.carlspring.commons.http.range.ByteRangeHeaderParser;
 import org.carlspring.strongbox.io.ByteRangeInputStream;
 import org.carlspring.strongbox.io.StreamUtils;
+import org.carlspring.strongbox.providers.io.ChecksumValueCache.ChecksumValues;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributes;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
 import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
 import static org.springframework.http.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
 
@@ -31,6 +42,12 @@ public class ArtifactControllerHelper
 
     public static final String HEADER_NAME_RANGE = "Range";
 
+    public static final int MAX_BYTE_RANGES = 64;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte[] CRLF = { '\r', '\n' };
+
     private static final Logger logger = LoggerFactory.getLogger(ArtifactControllerHelper.class);
 
 
@@ -38,13 +55,24 @@ public class ArtifactControllerHelper
     {
     }
 
+    public static List<ByteRange> getByteRanges(HttpHeaders headers)
+    {
+        ByteRangeHeaderParser parser = new ByteRangeHeaderParser(headers.getFirst(HEADER_NAME_RANGE));
+
+        return parser.getRanges();
+    }
+
+    /**
+     * Prepares the response for a single range. Multiple ranges need seekable content, and are served with
+     * {@link #handlePartialDownloadWithMultipleRanges(FileChannel, List, HttpServletResponse)}, so here they are
+     * ignored and the whole content is sent.
+     */
     public static void handlePartialDownload(InputStream is,
                                              HttpHeaders headers,
                                              HttpServletResponse response)
             throws IOException
     {
-        ByteRangeHeaderParser parser = new ByteRangeHeaderParser(headers.getFirst(HEADER_NAME_RANGE));
-        List<ByteRange> ranges = parser.getRanges();
+        List<ByteRange> ranges = getByteRanges(headers);
         if (ranges.size() == 1)
         {
             logger.debug("Received request for a partial download with a single range.");
@@ -52,8 +80,7 @@ public class ArtifactControllerHelper
         }
         else
         {
-            logger.debug("Received request for a partial download with multiple ranges.");
-            handlePartialDownloadWithMultipleRanges(is, ranges, response);
+            logger.debug("Received request for a partial download with multiple ranges, sending whole content.");
         }
     }
 
@@ -83,13 +110,118 @@ public class ArtifactControllerHelper
         }
     }
 
-    public static void handlePartialDownloadWithMultipleRanges(InputStream is,
+    /**
+     * Writes the {@code multipart/byteranges} response with the requested ranges of the channel content. Every range
+     * is read at its position through the same 64 KB buffer.
+     * <br>
+     * Ranges which start past the end of the content are skipped, and if none is left, or there are more than
+     * {@link #MAX_BYTE_RANGES}, the request is answered with {@code 416}.
+     */
+    public static void handlePartialDownloadWithMultipleRanges(FileChannel channel,
                                                                List<ByteRange> byteRanges,
                                                                HttpServletResponse response)
             throws IOException
     {
-        // XXX: this is not implemented yet
-        response.setStatus(REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        long length = channel.size();
+
+        List<long[]> parts = new ArrayList<>();
+        for (ByteRange byteRange : byteRanges)
+        {
+            long[] part = resolveByteRange(byteRange, length);
+            if (part != null)
+            {
+                parts.add(part);
+            }
+        }
+
+        if (parts.isEmpty() || parts.size() > MAX_BYTE_RANGES)
+        {
+            response.setHeader("Content-Range", "bytes */" + length);
+            response.setHeader("Content-Length", "0");
+            response.setStatus(REQUESTED_RANGE_NOT_SATISFIABLE.value());
+
+            return;
+        }
+
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        String partContentType = response.getContentType() != null ? response.getContentType() :
+                                 MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+        List<byte[]> partHeaders = new ArrayList<>(parts.size());
+        long contentLength = 0L;
+        for (long[] part : parts)
+        {
+            byte[] partHeader = String.format("--%s\r\nContent-Type: %s\r\nContent-Range: bytes %s-%s/%s\r\n\r\n",
+                                              boundary, partContentType, part[0], part[1], length)
+                                      .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+
+            contentLength += partHeader.length + (part[1] - part[0] + 1) + CRLF.length;
+        }
+        byte[] closeDelimiter = String.format("--%s--\r\n", boundary).getBytes(StandardCharsets.US_ASCII);
+        contentLength += closeDelimiter.length;
+
+        response.setStatus(PARTIAL_CONTENT.value());
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setHeader("Content-Length", String.valueOf(contentLength));
+
+        OutputStream os = response.getOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        for (int i = 0; i < parts.size(); i++)
+        {
+            long[] part = parts.get(i);
+
+            os.write(partHeaders.get(i));
+
+            long position = part[0];
+            long end = part[1] + 1;
+            while (position < end)
+            {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), end - position));
+
+                int read = channel.read(buffer, position);
+                if (read <= 0)
+                {
+                    throw new IOException(String.format("Unexpected end of file at [%s] of [%s] bytes.",
+                                                        position, length));
+                }
+
+                os.write(buffer.array(), 0, read);
+                position += read;
+            }
+
+            os.write(CRLF);
+        }
+        os.write(closeDelimiter);
+
+        response.flushBuffer();
+    }
+
+    /**
+     * @return the first and the last byte positions of the range, or {@code null} if the range starts past the end
+     *         of the content. A negative offset is a suffix range, and a zero limit means the end of the content.
+     */
+    private static long[] resolveByteRange(ByteRange byteRange,
+                                           long length)
+    {
+        long offset = byteRange.getOffset();
+        long limit = byteRange.getLimit();
+
+        long first;
+        long last;
+        if (offset < 0L)
+        {
+            first = Math.max(0L, length + offset);
+            last = length - 1;
+        }
+        else
+        {
+            first = offset;
+            last = limit > 0L ? Math.min(limit, length - 1) : length - 1;
+        }
+
+        return first < length && first <= last ? new long[]{ first, last } : null;
     }
 
     public static long calculatePartialRangeLength(ByteRange byteRange,
@@ -153,8 +285,79 @@ public class ArtifactControllerHelper
 
         response.setHeader("Content-Length", String.valueOf(fileAttributes.size()));
         response.setHeader("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME.format(
-                ZonedDateTime.ofInstant(fileAttributes.lastModifiedTime().toInstant(), ZoneId.systemDefault())));
+                ZonedDateTime.ofInstant(fileAttributes.lastModifiedTime().toInstant(), ZoneOffset.UTC)));
+
+        provideContentType(response, path);
+
+        response.setHeader("Accept-Ranges", "bytes");
+
+        ChecksumValues checksumValues = path.getFileSystem().provider().getChecksumValues(path);
+        checksumValues.getChecksums().forEach((algorithm, checksum) -> {
+            String checksumName = String.format("Checksum-%s",
+                                                algorithm.toUpperCase().replaceAll("-", ""));
+            response.setHeader(checksumName,
+                               checksum);
+        });
+
+        // The SHA-1 checksum is preferred, any other one will do.
+        String eTag = null;
+        for (Map.Entry<String, String> e : checksumValues.getChecksums().entrySet())
+        {
+            if (checksumValues.isOutdated(e.getKey()))
+            {
+                continue;
+            }
+            if (eTag == null || MessageDigestAlgorithms.SHA_1.equals(e.getKey()))
+            {
+                eTag = e.getValue();
+            }
+        }
+        if (eTag != null)
+        {
+            response.setHeader(HttpHeaders.ETAG, "\"" + eTag + "\"");
+        }
+    }
 
+    /**
+     * Checks the conditional request headers against the {@code ETag} and {@code Last-Modified} headers, provided
+     * with {@link #provideArtifactHeaders(HttpServletResponse, RepositoryPath)}, and sets the {@code 304} status if
+     * the client already has the artifact.
+     *
+     * @return {@code true} if the artifact was not modified, and its content should not be sent
+     */
+    public static boolean isNotModified(HttpServletRequest request,
+                                        HttpServletResponse response)
+    {
+        String eTag = response.getHeader(HttpHeaders.ETAG);
+        String lastModified = response.getHeader(HttpHeaders.LAST_MODIFIED);
+        if (eTag == null && lastModified == null)
+        {
+            return false;
+        }
+
+        long lastModifiedTimestamp = lastModified == null ? -1L :
+                                     ZonedDateTime.parse(lastModified, DateTimeFormatter.RFC_1123_DATE_TIME)
+                                                  .toInstant()
+                                                  .toEpochMilli();
+
+        return new ServletWebRequest(request, response).checkNotModified(eTag, lastModifiedTimestamp);
+    }
+
+    /**
+     * Headers of the proxied artifact which is still being downloaded from remote: neither its length nor its
+     * checksums are known yet.
+     */
+    public static void provideDownloadingArtifactHeaders(HttpServletResponse response,
+                                                         RepositoryPath path)
+    {
+        provideContentType(response, path);
+
+        response.setHeader("Accept-Ranges", "none");
+    }
+
+    private static void provideContentType(HttpServletResponse response,
+                                           RepositoryPath path)
+    {
         // TODO: This is far from optimal and will need to have a content type approach at some point:
         if (RepositoryFiles.isChecksum(path) || (path.getFileName().toString().endsWith(".properties")))
         {
@@ -172,25 +375,6 @@ public class ArtifactControllerHelper
         {
             response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
         }
-
-        response.setHeader("Accept-Ranges", "bytes");
-
-        path.getFileSystem().provider().resolveChecksumPathMap(path).entrySet().stream().forEach(e -> {
-            String checksumValue;
-            try
-            {
-                checksumValue = new String(Files.readAllBytes(e.getValue()), "UTF-8").trim();
-            }
-            catch (IOException ioe)
-            {
-                return;
-            }
-            String checksumName = String.format("Checksum-%s",
-                                                e.getKey().toUpperCase().replaceAll("-", ""));
-            response.setHeader(checksumName,
-                               checksumValue);
-        });
-        
     }
 
 }
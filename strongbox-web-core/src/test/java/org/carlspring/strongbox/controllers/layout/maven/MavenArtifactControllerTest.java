@@ -34,6 +34,7 @@ import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import java.io.*;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -48,6 +49,8 @@ import java.util.zip.ZipOutputStream;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.ExtractableResponse;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.repository.metadata.Metadata;
 import org.apache.maven.artifact.repository.metadata.SnapshotVersion;
@@ -455,6 +458,48 @@ public class MavenArtifactControllerTest
         assertHeadersEquals(headersFromGET, headersFromHEAD);
     }
 
+    @Test
+    public void testConditionalFetch()
+            throws Exception
+    {
+        String url = getContextBaseUrl() + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES1;
+        String pathToJar = "/org/carlspring/strongbox/partial/partial-foo/3.2/partial-foo-3.2.jar";
+        String artifactPath = url + pathToJar;
+
+        String sha1 = MessageDigestUtils.readChecksumFile(client.getResource(artifactPath + ".sha1", true));
+
+        Headers headers = client.getHeadersFromGET(artifactPath);
+        String eTag = headers.getValue("ETag");
+        String lastModified = headers.getValue("Last-Modified");
+
+        assertEquals("\"" + sha1 + "\"", eTag);
+        assertNotNull(lastModified);
+
+        given().header("user-agent", "Maven/*")
+               .header("If-None-Match", eTag)
+               .when()
+               .get(artifactPath)
+               .then()
+               .statusCode(HttpStatus.NOT_MODIFIED.value())
+               .header("ETag", eTag);
+
+        given().header("user-agent", "Maven/*")
+               .header("If-Modified-Since", lastModified)
+               .when()
+               .get(artifactPath)
+               .then()
+               .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        // If-None-Match takes precedence over If-Modified-Since.
+        given().header("user-agent", "Maven/*")
+               .header("If-None-Match", "\"outdated\"")
+               .header("If-Modified-Since", lastModified)
+               .when()
+               .get(artifactPath)
+               .then()
+               .statusCode(HttpStatus.OK.value());
+    }
+
     private void assertHeadersEquals(Headers h1,
                                      Headers h2)
     {
@@ -567,6 +612,155 @@ public class MavenArtifactControllerTest
         assertEquals(sha1Remote, sha1Local, "Glued partial fetches did not match SHA-1 checksum!");
     }
 
+    @Test
+    public void testMultipleRangesFetch()
+            throws Exception
+    {
+        String url = getContextBaseUrl() + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES1;
+        String pathToJar = "/org/carlspring/strongbox/partial/partial-foo/3.2/partial-foo-3.2.jar";
+        String artifactPath = url + pathToJar;
+
+        byte[] content;
+        try (InputStream is = client.getResource(artifactPath))
+        {
+            content = IOUtils.toByteArray(is);
+        }
+
+        ExtractableResponse response = given().header("user-agent", "Maven/*")
+                                              .header("Range", "bytes=0-9,20-29")
+                                              .when()
+                                              .get(artifactPath)
+                                              .then()
+                                              .statusCode(HttpStatus.PARTIAL_CONTENT.value())
+                                              .extract();
+
+        String contentType = response.header("Content-Type");
+        assertTrue(contentType.startsWith("multipart/byteranges; boundary="));
+
+        String boundary = contentType.substring(contentType.indexOf("boundary=") + "boundary=".length());
+        String body = new String(response.asByteArray(), StandardCharsets.ISO_8859_1);
+        String expectedBody = "--" + boundary + "\r\n" +
+                              "Content-Type: application/octet-stream\r\n" +
+                              "Content-Range: bytes 0-9/" + content.length + "\r\n\r\n" +
+                              new String(content, 0, 10, StandardCharsets.ISO_8859_1) + "\r\n" +
+                              "--" + boundary + "\r\n" +
+                              "Content-Type: application/octet-stream\r\n" +
+                              "Content-Range: bytes 20-29/" + content.length + "\r\n\r\n" +
+                              new String(content, 20, 10, StandardCharsets.ISO_8859_1) + "\r\n" +
+                              "--" + boundary + "--\r\n";
+
+        assertEquals(expectedBody, body);
+
+        given().header("user-agent", "Maven/*")
+               .header("Range", "bytes=" + content.length + "-,"  + (content.length + 10) + "-")
+               .when()
+               .get(artifactPath)
+               .then()
+               .statusCode(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+    }
+
+    @Test
+    public void testFullBodyFetch()
+            throws Exception
+    {
+        String url = getContextBaseUrl() + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES1;
+        String pathToJar = "/org/carlspring/strongbox/partial/partial-foo/3.2/partial-foo-3.2.jar";
+        String artifactPath = url + pathToJar;
+
+        String md5 = MessageDigestUtils.readChecksumFile(client.getResource(artifactPath + ".md5", true));
+
+        ExtractableResponse response = given().header("user-agent", "Maven/*")
+                                              .when()
+                                              .get(artifactPath)
+                                              .then()
+                                              .statusCode(HttpStatus.OK.value())
+                                              .extract();
+
+        byte[] body = response.asByteArray();
+        assertEquals(String.valueOf(body.length), response.header("Content-Length"));
+        assertEquals(md5, DigestUtils.md5Hex(body));
+    }
+
+    @Test
+    public void testSingleRangeFetch()
+            throws Exception
+    {
+        String url = getContextBaseUrl() + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES1;
+        String pathToJar = "/org/carlspring/strongbox/partial/partial-foo/3.2/partial-foo-3.2.jar";
+        String artifactPath = url + pathToJar;
+
+        byte[] content;
+        try (InputStream is = client.getResource(artifactPath))
+        {
+            content = IOUtils.toByteArray(is);
+        }
+
+        ExtractableResponse response = given().header("user-agent", "Maven/*")
+                                              .header("Range", "bytes=10-")
+                                              .when()
+                                              .get(artifactPath)
+                                              .then()
+                                              .statusCode(HttpStatus.PARTIAL_CONTENT.value())
+                                              .extract();
+
+        assertEquals("bytes 10-" + (content.length - 1) + "/" + content.length, response.header("Content-Range"));
+        assertArrayEquals(Arrays.copyOfRange(content, 10, content.length), response.asByteArray());
+
+        given().header("user-agent", "Maven/*")
+               .header("Range", "bytes=" + content.length + "-")
+               .when()
+               .get(artifactPath)
+               .then()
+               .statusCode(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+    }
+
+    @Test
+    public void testMultipleRangesFetchWithSuffixRange()
+            throws Exception
+    {
+        String url = getContextBaseUrl() + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES1;
+        String pathToJar = "/org/carlspring/strongbox/partial/partial-foo/3.2/partial-foo-3.2.jar";
+        String artifactPath = url + pathToJar;
+
+        byte[] content;
+        try (InputStream is = client.getResource(artifactPath))
+        {
+            content = IOUtils.toByteArray(is);
+        }
+
+        // The second range ends past the content, and the third one is a suffix.
+        ExtractableResponse response = given().header("user-agent", "Maven/*")
+                                              .header("Range", "bytes=0-4," + (content.length - 3) + "-" +
+                                                               (content.length + 100) + ",-5")
+                                              .when()
+                                              .get(artifactPath)
+                                              .then()
+                                              .statusCode(HttpStatus.PARTIAL_CONTENT.value())
+                                              .extract();
+
+        String contentType = response.header("Content-Type");
+        String boundary = contentType.substring(contentType.indexOf("boundary=") + "boundary=".length());
+        byte[] body = response.asByteArray();
+        String expectedBody = "--" + boundary + "\r\n" +
+                              "Content-Type: application/octet-stream\r\n" +
+                              "Content-Range: bytes 0-4/" + content.length + "\r\n\r\n" +
+                              new String(content, 0, 5, StandardCharsets.ISO_8859_1) + "\r\n" +
+                              "--" + boundary + "\r\n" +
+                              "Content-Type: application/octet-stream\r\n" +
+                              "Content-Range: bytes " + (content.length - 3) + "-" + (content.length - 1) + "/" +
+                              content.length + "\r\n\r\n" +
+                              new String(content, content.length - 3, 3, StandardCharsets.ISO_8859_1) + "\r\n" +
+                              "--" + boundary + "\r\n" +
+                              "Content-Type: application/octet-stream\r\n" +
+                              "Content-Range: bytes " + (content.length - 5) + "-" + (content.length - 1) + "/" +
+                              content.length + "\r\n\r\n" +
+                              new String(content, content.length - 5, 5, StandardCharsets.ISO_8859_1) + "\r\n" +
+                              "--" + boundary + "--\r\n";
+
+        assertEquals(expectedBody, new String(body, StandardCharsets.ISO_8859_1));
+        assertEquals(String.valueOf(body.length), response.header("Content-Length"));
+    }
+
     @Test
     public void testCopyArtifactFile()
             throws Exception
@@ -10,11 +10,16 @@ import org.carlspring.strongbox.storage.repository.NpmRepositoryFactory;
 import org.carlspring.strongbox.storage.repository.RepositoryPolicyEnum;
 
 import javax.inject.Inject;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,7 +28,13 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @IntegrationTest
 @ExtendWith(SpringExtension.class)
@@ -42,6 +53,8 @@ public class NpmArtifactControllerTest
 
     NpmPackageGenerator packageGenerator;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
 
     @BeforeAll
     public static void cleanUp()
@@ -160,4 +173,216 @@ public class NpmArtifactControllerTest
                .header("Content-Length", equalTo(String.valueOf(Files.size(packagePath))));
     }
 
+    @Test
+    public void testPackageFeedCache()
+        throws Exception
+    {
+        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of("@carlspring/npm-test-feed", "1.0.0");
+        String packageUrl = contextBaseUrl + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES + "/" +
+                            coordinates.getId();
+
+        publish(coordinates);
+
+        String eTag = given().header("User-Agent", "npm/*")
+                             .when()
+                             .get(packageUrl)
+                             .peek()
+                             .then()
+                             .statusCode(HttpStatus.OK.value())
+                             .header("ETag", notNullValue())
+                             .body(containsString("\"1.0.0\""))
+                             .extract()
+                             .header("ETag");
+
+        // The cached feed is not sent again.
+        given().header("User-Agent", "npm/*")
+               .header("If-None-Match", eTag)
+               .when()
+               .get(packageUrl)
+               .then()
+               .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        // Publish invalidates it.
+        publish(NpmArtifactCoordinates.of(coordinates.getId(), "1.0.1"));
+
+        given().header("User-Agent", "npm/*")
+               .header("If-None-Match", eTag)
+               .when()
+               .get(packageUrl)
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .header("ETag", not(equalTo(eTag)))
+               .body(containsString("\"1.0.1\""));
+    }
+
+    @Test
+    public void testPackageFeedEncodingsHaveDistinctETags()
+        throws Exception
+    {
+        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of("@carlspring/npm-test-feed-encoding", "1.0.0");
+        String packageUrl = contextBaseUrl + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES + "/" +
+                            coordinates.getId();
+
+        publish(coordinates);
+
+        String gzipETag = given().header("User-Agent", "npm/*")
+                                 .header("Accept-Encoding", "gzip")
+                                 .when()
+                                 .get(packageUrl)
+                                 .then()
+                                 .statusCode(HttpStatus.OK.value())
+                                 .header("Content-Encoding", equalTo("gzip"))
+                                 .extract()
+                                 .header("ETag");
+
+        String identityETag = given().header("User-Agent", "npm/*")
+                                     .header("Accept-Encoding", "identity")
+                                     .when()
+                                     .get(packageUrl)
+                                     .then()
+                                     .statusCode(HttpStatus.OK.value())
+                                     .header("ETag", not(equalTo(gzipETag)))
+                                     .extract()
+                                     .header("ETag");
+
+        // The gzip encoded feed doesn't validate the cached identity one, and the other way round.
+        given().header("User-Agent", "npm/*")
+               .header("Accept-Encoding", "identity")
+               .header("If-None-Match", gzipETag)
+               .when()
+               .get(packageUrl)
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body(containsString("\"1.0.0\""));
+
+        given().header("User-Agent", "npm/*")
+               .header("Accept-Encoding", "gzip")
+               .header("If-None-Match", identityETag)
+               .when()
+               .get(packageUrl)
+               .then()
+               .statusCode(HttpStatus.OK.value());
+    }
+
+    @Test
+    public void testPublishWithAttachmentBeforeVersion()
+        throws Exception
+    {
+        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of("@carlspring/npm-test-attachment-first", "1.0.0");
+        ObjectNode publishJson = buildPublishJson(coordinates);
+
+        // The attachment has to be kept aside until the version is known.
+        ObjectNode reorderedPublishJson = objectMapper.createObjectNode();
+        reorderedPublishJson.set("_id", publishJson.get("_id"));
+        reorderedPublishJson.set("name", publishJson.get("name"));
+        reorderedPublishJson.set("_attachments", publishJson.get("_attachments"));
+        reorderedPublishJson.set("versions", publishJson.get("versions"));
+
+        given().header("User-Agent", "npm/*")
+               .header("Content-Type", "application/json")
+               .body(objectMapper.writeValueAsBytes(reorderedPublishJson))
+               .when()
+               .put(contextBaseUrl + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES + "/" + coordinates.getId())
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value());
+
+        Path packagePath = resolvePackagePath(coordinates);
+        assertTrue(Files.exists(packagePath));
+        assertTrue(Files.exists(packagePath.resolveSibling("package.json")));
+        assertArrayEquals(attachmentData(publishJson), Files.readAllBytes(packagePath));
+    }
+
+    @Test
+    public void testPublishWithInvalidAttachmentLength()
+        throws Exception
+    {
+        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of("@carlspring/npm-test-invalid-length", "1.0.0");
+        ObjectNode publishJson = buildPublishJson(coordinates);
+
+        ObjectNode attachment = (ObjectNode) publishJson.get("_attachments").elements().next();
+        attachment.put("length", attachment.get("length").asLong() + 1);
+
+        given().header("User-Agent", "npm/*")
+               .header("Content-Type", "application/json")
+               .body(objectMapper.writeValueAsBytes(publishJson))
+               .when()
+               .put(contextBaseUrl + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES + "/" + coordinates.getId())
+               .peek()
+               .then()
+               .statusCode(HttpStatus.BAD_REQUEST.value());
+
+        Path packagePath = resolvePackagePath(coordinates);
+        assertFalse(Files.exists(packagePath));
+        assertFalse(Files.exists(packagePath.resolveSibling("package.json")));
+    }
+
+    @Test
+    public void testPublishInterruptedWithinAttachment()
+        throws Exception
+    {
+        NpmArtifactCoordinates coordinates = NpmArtifactCoordinates.of("@carlspring/npm-test-interrupted", "1.0.0");
+        byte[] publishJsonContent = objectMapper.writeValueAsBytes(buildPublishJson(coordinates));
+
+        // The client goes away in the middle of the attachment data.
+        String publishJsonSource = new String(publishJsonContent, StandardCharsets.UTF_8);
+        int dataStart = publishJsonSource.indexOf("\"data\"");
+        int dataEnd = publishJsonSource.indexOf("\"length\"");
+        byte[] truncatedContent = Arrays.copyOf(publishJsonContent, dataStart + (dataEnd - dataStart) / 2);
+
+        given().header("User-Agent", "npm/*")
+               .header("Content-Type", "application/json")
+               .body(truncatedContent)
+               .when()
+               .put(contextBaseUrl + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES + "/" + coordinates.getId())
+               .peek()
+               .then()
+               .statusCode(not(equalTo(HttpStatus.OK.value())));
+
+        Path packagePath = resolvePackagePath(coordinates);
+        assertFalse(Files.exists(packagePath));
+        assertFalse(Files.exists(packagePath.resolveSibling("package.json")));
+    }
+
+    /**
+     * The package is generated outside of the repository, so that only the published files end up there.
+     */
+    private ObjectNode buildPublishJson(NpmArtifactCoordinates coordinates)
+        throws Exception
+    {
+        Path generatorBasedir = Files.createTempDirectory("npm-publish");
+        Path publishJsonPath = new NpmPackageGenerator(generatorBasedir.toString()).of(coordinates)
+                                                                                  .buildPublishJson();
+
+        return (ObjectNode) objectMapper.readTree(Files.readAllBytes(publishJsonPath));
+    }
+
+    private byte[] attachmentData(ObjectNode publishJson)
+        throws Exception
+    {
+        return publishJson.get("_attachments").elements().next().get("data").binaryValue();
+    }
+
+    private Path resolvePackagePath(NpmArtifactCoordinates coordinates)
+    {
+        return getRepositoryBasedir(STORAGE0, REPOSITORY_RELEASES).toPath().resolve(coordinates.toPath());
+    }
+
+    private void publish(NpmArtifactCoordinates coordinates)
+        throws Exception
+    {
+        Path publishJsonPath = packageGenerator.of(coordinates).buildPublishJson();
+
+        given().header("User-Agent", "npm/*")
+               .header("Content-Type", "application/json")
+               .body(Files.readAllBytes(publishJsonPath))
+               .when()
+               .put(contextBaseUrl + "/storages/" + STORAGE0 + "/" + REPOSITORY_RELEASES + "/" +
+                    coordinates.getId())
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value());
+    }
+
 }
@@ -1,5 +1,6 @@
 package org.carlspring.strongbox.controllers.layout.nuget;
 
+import org.carlspring.strongbox.artifact.coordinates.PathNupkg;
 import org.carlspring.strongbox.config.IntegrationTest;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.RemoteArtifactEntry;
@@ -188,6 +189,15 @@ public class NugetArtifactControllerTest extends NugetRestAssuredBaseTest
                .then()
                .statusCode(HttpStatus.CREATED.value());
 
+        // The feeds are generated from the `.nuspec` and the hash stored within the artifact entry.
+        ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(STORAGE_ID, REPOSITORY_RELEASES_1,
+                                                                           String.format("%s/%s/%s.%s.nupkg",
+                                                                                         packageId, packageVersion,
+                                                                                         packageId, packageVersion));
+        assertNotNull(artifactEntry);
+        assertTrue(artifactEntry.getArtifactMetadata().get(PathNupkg.NUSPEC_METADATA).contains(packageId));
+        assertNotNull(artifactEntry.getArtifactMetadata().get(PathNupkg.HASH_METADATA));
+
         //Find by ID
         given().header("User-Agent", "NuGet/*")
                .when()